@@ -0,0 +1,25 @@
+package sparta.seed;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 메모리 저장소 - 리포지토리 인터페이스를 프록시로 만들고 지정한 메서드만 응답한다
+ */
+public final class BenchmarkStubs {
+
+  private BenchmarkStubs() {
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+      Function<Object[], Object> answer = answers.get(method.getName());
+      if (answer == null) {
+        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+      }
+      return answer.apply(args);
+    });
+  }
+}
@@ -0,0 +1,46 @@
+package sparta.seed.campaign.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sparta.seed.BenchmarkStubs;
+import sparta.seed.campaign.domain.AqApiData;
+import sparta.seed.campaign.domain.dto.responsedto.AqApiResponseDto;
+import sparta.seed.campaign.repository.AqRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기질 위험도 분류 - 측정값은 메모리 값으로 대체 (좋음 / 보통 / 나쁨 / 매우 나쁨 구간별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AqServiceBenchmark {
+
+  @Param({"0.01", "0.05", "0.12", "3.5"})
+  private double average;
+
+  private AqService aqService;
+
+  @Setup
+  public void setUp() {
+    AqRepository aqRepository = BenchmarkStubs.repository(AqRepository.class, Map.of(
+            "findByDatetimeAndRegion", args -> Optional.of(new AqApiData()),
+            "airQualityData", args -> average));
+    aqService = new AqService(aqRepository);
+  }
+
+  @Benchmark
+  public List<AqApiResponseDto> airQualityData() {
+    return aqService.airQualityData();
+  }
+}
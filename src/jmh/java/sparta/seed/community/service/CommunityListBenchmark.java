@@ -0,0 +1,79 @@
+package sparta.seed.community.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import sparta.seed.BenchmarkStubs;
+import sparta.seed.community.domain.Community;
+import sparta.seed.community.domain.dto.responsedto.CommunityAllResponseDto;
+import sparta.seed.community.domain.dto.responsedto.CommunityCountDto;
+import sparta.seed.community.repository.CommunityRepository;
+import sparta.seed.login.UserDetailsImpl;
+import sparta.seed.member.domain.Member;
+import sparta.seed.util.DateUtil;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 목록 DTO 조립 (인기그룹) - 랭킹 / 리포지토리는 메모리 값으로 대체
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommunityListBenchmark {
+
+  @Param({"10", "100"})
+  private int communityCnt;
+
+  private CommunityService communityService;
+  private UserDetailsImpl userDetails;
+
+  @Setup
+  public void setUp() {
+    List<CommunityCountDto> communities = new ArrayList<>();
+    for (long id = 1; id <= communityCnt; id++) {
+      Community community = Community.builder()
+              .id(id)
+              .title("캠페인" + id)
+              .nickname("작성자")
+              .memberId(id % 7)
+              .content("내용")
+              .img("https://usearth.s3.ap-northeast-2.amazonaws.com/usimg/defaultImg1.png")
+              .startDate(String.valueOf(LocalDate.now().minusDays(id % 5)))
+              .endDate(String.valueOf(LocalDate.now().plusDays(id % 10)))
+              .limitScore(10)
+              .limitParticipants(10)
+              .build();
+      CommunityCountDto countDto = new CommunityCountDto(community, (int) (id % 10));
+      countDto.setCertifiedProofCnt(id % 4);
+      communities.add(countDto);
+    }
+
+    CommunityRepository communityRepository = BenchmarkStubs.repository(CommunityRepository.class,
+            Map.of("activeCommunity", args -> communities));
+    CommunityRankingService communityRankingService = new CommunityRankingService(null, communityRepository) {
+      @Override
+      public List<Long> getPopularIds() {
+        return List.of();
+      }
+    };
+    communityService = new CommunityService(communityRepository, null, null, new DateUtil(), null, null, null, communityRankingService, null);
+    userDetails = new UserDetailsImpl(Member.builder().id(3L).build());
+  }
+
+  @Benchmark
+  public ResponseEntity<List<CommunityAllResponseDto>> activeCommunity() throws ParseException {
+    return communityService.activeCommunity(userDetails);
+  }
+}
@@ -0,0 +1,85 @@
+package sparta.seed.community.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sparta.seed.BenchmarkStubs;
+import sparta.seed.community.repository.SlangRepository;
+import sparta.seed.exception.CustomException;
+import sparta.seed.util.RedisService;
+import sparta.seed.util.SlangReport;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비속어 검사 - 사전 크기 x 본문 길이 (레디스 / DB 사전은 메모리 값으로 대체)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlangServiceBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int dictionarySize;
+
+  @Param({"20", "200", "2000"})
+  private int textLength;
+
+  private SlangService slangService;
+  private String text;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    Set<String> dictionary = new HashSet<>();
+    while (dictionary.size() < dictionarySize) {
+      dictionary.add(hangul(random, 2 + random.nextInt(3)));
+    }
+    text = hangul(random, textLength);
+
+    RedisService redisService = new RedisService(null) {
+      @Override
+      public Set<String> getSlangSet() {
+        return dictionary;
+      }
+    };
+    SlangRepository slangRepository = BenchmarkStubs.repository(SlangRepository.class,
+            Map.of("findAll", args -> List.of()));
+    slangService = new SlangService(slangRepository, redisService, null);
+    slangService.reloadSlang();
+  }
+
+  @Benchmark
+  public boolean checkSlang() {
+    try {
+      slangService.checkSlang(text);
+      return true;
+    } catch (CustomException e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public SlangReport scanAll() {
+    return slangService.scanAll(text, text);
+  }
+
+  //사전과 본문을 같은 글자 범위(가 ~ 갛 + 나 ~ 낳)에서 뽑아서 실제처럼 부분 일치가 자주 생기게 한다
+  private static String hangul(Random random, int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ((random.nextBoolean() ? '가' : '나') + random.nextInt(28)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,50 @@
+package sparta.seed.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 진행상태(before / ongoing / end) 계산 - 목록 DTO 조립 시 캠페인마다 호출된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilBenchmark {
+
+  @Param({"before", "ongoing", "end"})
+  private String status;
+
+  private final DateUtil dateUtil = new DateUtil();
+  private String startDate;
+  private String endDate;
+
+  @Setup
+  public void setUp() {
+    LocalDate today = LocalDate.now();
+    if (status.equals("before")) {
+      startDate = String.valueOf(today.plusDays(3));
+      endDate = String.valueOf(today.plusDays(10));
+    } else if (status.equals("ongoing")) {
+      startDate = String.valueOf(today.minusDays(3));
+      endDate = String.valueOf(today.plusDays(3));
+    } else {
+      startDate = String.valueOf(today.minusDays(10));
+      endDate = String.valueOf(today.minusDays(3));
+    }
+  }
+
+  @Benchmark
+  public String dateStatus() throws ParseException {
+    return dateUtil.dateStatus(startDate, endDate);
+  }
+}
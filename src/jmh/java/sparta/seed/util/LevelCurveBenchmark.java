@@ -0,0 +1,92 @@
+package sparta.seed.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미션 완료 경험치 처리 - 예전 ExpUtil(호출마다 HashMap 생성) vs LevelCurve
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelCurveBenchmark {
+  private static final int SIZE = 1024;
+
+  private final LevelCurve levelCurve = new LevelCurve(null);
+  private final int[] levels = new int[SIZE];
+  private final int[] exps = new int[SIZE];
+  private final int[] gains = new int[SIZE];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    for (int i = 0; i < SIZE; i++) {
+      levels[i] = 1 + random.nextInt(10);
+      exps[i] = random.nextInt(levelCurve.getNeedNextLevelExp(levels[i]));
+      gains[i] = 1 + random.nextInt(3);
+    }
+  }
+
+  @Benchmark
+  public int legacyMap() {
+    int i = next();
+    int level = levels[i];
+    int exp = exps[i] + gains[i];
+    //예전 MissionService.completeMission 흐름 : 완료 전후로 getNextLevelExp()를 두번 호출
+    Integer needBefore = legacyNextLevelExp().get(level);
+    if (exp == needBefore) {
+      level++;
+      exp = 0;
+    } else if (exp > needBefore) {
+      level++;
+      exp -= needBefore;
+    }
+    Integer needAfter = legacyNextLevelExp().get(level);
+    return level + exp + (needAfter == null ? 0 : needAfter);
+  }
+
+  @Benchmark
+  public long levelCurve() {
+    int i = next();
+    long result = levelCurve.apply(levels[i], exps[i], gains[i]);
+    return result + levelCurve.getNeedNextLevelExp(LevelCurve.levelOf(result));
+  }
+
+  @Benchmark
+  public int levelCurveBatch() {
+    int[] batchLevels = levels.clone();
+    int[] batchExps = exps.clone();
+    levelCurve.applyAll(batchLevels, batchExps, gains);
+    return batchLevels[SIZE - 1];
+  }
+
+  private int next() {
+    index = (index + 1) & (SIZE - 1);
+    return index;
+  }
+
+  private static HashMap<Integer, Integer> legacyNextLevelExp() {
+    HashMap<Integer, Integer> map = new HashMap<>();
+    map.put(1, 1);
+    map.put(2, 1);
+    map.put(3, 2);
+    map.put(4, 5);
+    map.put(5, 5);
+    map.put(6, 6);
+    map.put(7, 8);
+    map.put(8, 8);
+    map.put(9, 10);
+    map.put(10, 12);
+    return map;
+  }
+}
@@ -25,8 +25,11 @@ public class CommentController {
    * 댓글 조회
    */
 	@GetMapping("/api/comments/{proofId}")
-	public CommentResponseListDto getAllComment(@PathVariable Long proofId, @AuthenticationPrincipal UserDetailsImpl userDetails, HttpServletRequest servletRequest){
-		return commentService.getAllComment(proofId, userDetails, servletRequest);
+	public CommentResponseListDto getAllComment(@PathVariable Long proofId,
+	                                            @RequestParam(value = "cursor", required = false) Long cursor,
+	                                            @RequestParam(value = "size", required = false) Integer size,
+	                                            @AuthenticationPrincipal UserDetailsImpl userDetails, HttpServletRequest servletRequest){
+		return commentService.getAllComment(proofId, cursor, size, userDetails, servletRequest);
 	}
 
   /**
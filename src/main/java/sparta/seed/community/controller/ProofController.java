@@ -10,6 +10,7 @@ import sparta.seed.community.domain.dto.requestdto.ProofRequestDto;
 import sparta.seed.community.domain.dto.responsedto.ProofCountResponseDto;
 import sparta.seed.community.domain.dto.responsedto.ProofHeartResponseDto;
 import sparta.seed.community.domain.dto.responsedto.ProofResponseDto;
+import sparta.seed.community.domain.dto.responsedto.ProofResponseListDto;
 import sparta.seed.community.service.ProofService;
 import sparta.seed.login.UserDetailsImpl;
 
@@ -38,6 +39,18 @@ public class ProofController {
 			return proofService.getAllProof(communityId, page, size, userDetails, servletRequest);
 	}
 
+	/**
+	 * 글에 달린 인증글 cursor 조회 - 첫 조회는 cursor= (빈 값), 이후 응답의 nextCursor를 넘긴다
+	 */
+	@GetMapping(value = "/api/community/{communityId}/proof", params = "cursor")
+	public ProofResponseListDto getProofSlice(@PathVariable Long communityId,
+	                                          @RequestParam(value = "cursor", required = false) Long cursor,
+	                                          @RequestParam("size") int size,
+	                                          @AuthenticationPrincipal UserDetailsImpl userDetails,
+	                                          HttpServletRequest servletRequest){
+		return proofService.getProofSlice(communityId, cursor, size, userDetails, servletRequest);
+	}
+
 	/**
 	 * 글에 달린 인증글 상세 조회
 	 */
@@ -9,6 +9,7 @@ import javax.persistence.*;
 
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_comment_spool_key", columnList = "spoolKey"))
 @NoArgsConstructor
 public class Comment extends BaseEntity {
   //PK
@@ -25,17 +26,20 @@ public class Comment extends BaseEntity {
   private String content;
 
   private String img;
+  //지연 처리 중인 원본 스풀 파일 이름 - 처리 결과를 반영할 작업 식별자 (처리가 끝나면 null)
+  private String spoolKey;
   //인증글
   @ManyToOne(fetch = FetchType.LAZY,cascade = CascadeType.PERSIST)
   @JoinColumn(name = "proof_id")
   private Proof proof;
 
   @Builder
-  public Comment(String nickname, Long memberId, String content, String img, Proof proof) {
+  public Comment(String nickname, Long memberId, String content, String img, String spoolKey, Proof proof) {
     this.nickname = nickname;
     this.memberId = memberId;
     this.content = content;
     this.img = img;
+    this.spoolKey = spoolKey;
     this.proof = proof;
   }
 
@@ -46,5 +50,14 @@ public class Comment extends BaseEntity {
 
   public void setImg(String img) {
     this.img = img;
+    this.spoolKey = null;
+  }
+
+  /**
+   * 지연 처리할 이미지로 교체 - 이전 작업 결과는 spoolKey가 달라 반영되지 않는다
+   */
+  public void setProcessingImg(String placeholder, String spoolKey) {
+    this.img = placeholder;
+    this.spoolKey = spoolKey;
   }
 }
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -15,8 +16,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @NoArgsConstructor
 @Getter
+@Table(indexes = @Index(name = "idx_community_proof_count", columnList = "proofCount"))
 public class Community extends BaseEntity {
   //PK
   @Id
@@ -34,6 +37,8 @@ public class Community extends BaseEntity {
   @Column(nullable = false)
   private String content;
   private String img;
+  //목록용 썸네일 (320px), 이전 캠페인은 null
+  private String thumbnailImg;
   //캠페인시작일
   @Column(nullable = false)
   private String startDate;
@@ -53,6 +58,12 @@ public class Community extends BaseEntity {
   //모집여부
   @ColumnDefault("true")
   private boolean recruitment;
+  //참가자 수 (participantsList.size() 대신 사용, 증감은 CommunityRepository 벌크 업데이트로만)
+  @ColumnDefault("0")
+  private int participantCount;
+  //인증글 수
+  @ColumnDefault("0")
+  private int proofCount;
   @OneToMany(mappedBy = "community", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
   private List<Proof> proofList = new ArrayList<>();
 
@@ -62,13 +73,14 @@ public class Community extends BaseEntity {
 
 
   @Builder
-  public Community(Long id, String title, String nickname, Long memberId, String content, String img, String startDate, String endDate, double limitScore, double limitParticipants, boolean secret, String password, boolean recruitment, List<Proof> proofList, List<Participants> participantsList) {
+  public Community(Long id, String title, String nickname, Long memberId, String content, String img, String thumbnailImg, String startDate, String endDate, double limitScore, double limitParticipants, boolean secret, String password, boolean recruitment, List<Proof> proofList, List<Participants> participantsList) {
     this.id = id;
     this.title = title;
     this.nickname = nickname;
     this.memberId = memberId;
     this.content = content;
     this.img = img;
+    this.thumbnailImg = thumbnailImg;
     this.startDate = startDate;
     this.endDate = endDate;
     this.limitScore = limitScore;
@@ -96,8 +108,9 @@ public class Community extends BaseEntity {
     participantsList.add(participants);
   }
 
-  public void setImg(String img) {
+  public void setImg(String img, String thumbnailImg) {
     this.img = img;
+    this.thumbnailImg = thumbnailImg;
   }
 
 
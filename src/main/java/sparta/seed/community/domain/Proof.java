@@ -3,6 +3,8 @@ package sparta.seed.community.domain;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import sparta.seed.community.domain.dto.requestdto.ProofRequestDto;
@@ -14,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 public class Proof extends BaseEntity {
@@ -29,7 +32,12 @@ public class Proof extends BaseEntity {
   private String title;
   @Column(nullable = false)
   private String content;
-
+  //좋아요 수 (heartList.size() 대신 사용, 증감은 ProofRepository 벌크 업데이트로만)
+  @ColumnDefault("0")
+  private int heartCount;
+  //댓글 수
+  @ColumnDefault("0")
+  private int commentCount;
 
   @ManyToOne(fetch = FetchType.LAZY,cascade = CascadeType.PERSIST)
   @JoinColumn(name = "community_id",nullable = false)
@@ -66,6 +74,9 @@ public class Proof extends BaseEntity {
   public void addImg(Img img){
     this.imgList.add(img);
   }
+  public void removeImg(Img img){
+    this.imgList.remove(img);
+  }
   public void addComment(Comment comment){
     this.commentList.add(comment);
   }
@@ -6,4 +6,6 @@ import lombok.Data;
 @Data
 public class CommunitySearchCondition {
   private String title;
+  //마지막으로 받은 캠페인 id - 있으면 offset 대신 id < cursor 로 다음 페이지 조회
+  private Long cursor;
 }
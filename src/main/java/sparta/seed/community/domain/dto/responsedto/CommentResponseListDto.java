@@ -12,6 +12,10 @@ public class CommentResponseListDto {
 	private Long proofId;
 	private String dateStatus;
 	private List<CommentResponseDto> commentResponseDtoList = new ArrayList<>();
+	//size를 지정해서 조회했을때 다음 댓글이 있는지
+	private boolean hasNext;
+	//다음 조회 시 cursor로 넘길 값 (마지막 댓글 id, 다음이 없으면 null)
+	private Long nextCursor;
 
 	public CommentResponseListDto(Long proofId, String dateStatus) {
 		this.proofId = proofId;
@@ -20,4 +24,10 @@ public class CommentResponseListDto {
 	public void addCommentResponseDto(CommentResponseDto commentResponseDto){
 		this.commentResponseDtoList.add(commentResponseDto);
 	}
+	public void setHasNext(boolean hasNext) {
+		this.hasNext = hasNext;
+	}
+	public void setNextCursor(Long nextCursor) {
+		this.nextCursor = nextCursor;
+	}
 }
@@ -9,6 +9,8 @@ public class CommunityAllResponseDto {
 	private String nickname;
 	private String title;
 	private String img;
+	//목록용 썸네일 (이전 캠페인은 img와 같음)
+	private String thumbnailImg;
 	private int currentPercent;
 	private int successPercent;
 	private String dateStatus;
@@ -17,11 +19,12 @@ public class CommunityAllResponseDto {
 	private boolean writer;
 
 	@Builder
-	public CommunityAllResponseDto(Long communityId, String nickname, String title, String img, double currentPercent, double successPercent, String dateStatus, boolean secret, String password, boolean writer) {
+	public CommunityAllResponseDto(Long communityId, String nickname, String title, String img, String thumbnailImg, double currentPercent, double successPercent, String dateStatus, boolean secret, String password, boolean writer) {
 		this.communityId = communityId;
 		this.nickname = nickname;
 		this.title = title;
 		this.img = img;
+		this.thumbnailImg = thumbnailImg;
 		this.currentPercent = (int) currentPercent;
 		this.successPercent = (int) successPercent;
 		this.dateStatus = dateStatus;
@@ -0,0 +1,24 @@
+package sparta.seed.community.domain.dto.responsedto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import sparta.seed.community.domain.Community;
+
+@Getter
+public class CommunityCountDto {
+	private Community community;
+	//참가자 수
+	private long participantsCnt;
+	//인증된 인증글 수
+	private long certifiedProofCnt;
+
+	@QueryProjection
+	public CommunityCountDto(Community community, int participantsCnt) {
+		this.community = community;
+		this.participantsCnt = participantsCnt;
+	}
+
+	public void setCertifiedProofCnt(long certifiedProofCnt) {
+		this.certifiedProofCnt = certifiedProofCnt;
+	}
+}
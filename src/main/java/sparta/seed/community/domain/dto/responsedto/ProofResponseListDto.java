@@ -0,0 +1,25 @@
+package sparta.seed.community.domain.dto.responsedto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ProofResponseListDto {
+	private List<ProofResponseDto> proofResponseDtoList = new ArrayList<>();
+	//다음 인증글이 있는지
+	private boolean hasNext;
+	//다음 조회 시 cursor로 넘길 값 (마지막 인증글 id, 다음이 없으면 null)
+	private Long nextCursor;
+
+	public ProofResponseListDto(List<ProofResponseDto> proofResponseDtoList, boolean hasNext) {
+		this.proofResponseDtoList = proofResponseDtoList;
+		this.hasNext = hasNext;
+		if (hasNext && !proofResponseDtoList.isEmpty()) {
+			this.nextCursor = proofResponseDtoList.get(proofResponseDtoList.size() - 1).getProofId();
+		}
+	}
+}
@@ -1,11 +1,37 @@
 package sparta.seed.community.repository;
 
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import sparta.seed.community.domain.Comment;
+import sparta.seed.img.domain.PendingImage;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment,Long> {
 	List<Comment> findAllByProof_Id(Long replayId);
+
+	//댓글은 작성순이라 cursor 다음(id > cursor)부터 size + 1개 조회, count 쿼리 없음
+	Slice<Comment> findSliceByProof_Id(Long proofId, Pageable pageable);
+	Slice<Comment> findSliceByProof_IdAndIdGreaterThan(Long proofId, Long cursor, Pageable pageable);
+
+	/**
+	 * 지연 처리 완료 - 같은 작업(spoolKey)일 때만 바꾸므로 그 사이 이미지가 다시 바뀌었거나 삭제됐으면 0
+	 * 커밋 후 / 업로드 스레드에서 호출되므로 항상 새 트랜잭션
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Modifying
+	@Query("update Comment c set c.img = :img, c.spoolKey = null where c.id = :id and c.spoolKey = :spoolKey")
+	int replaceImg(@Param("id") Long id, @Param("spoolKey") String spoolKey, @Param("img") String img);
+
+	//지연 처리 중인 댓글 이미지 (재시도 / 스풀 정리용)
+	@Query("select c.id as id, c.spoolKey as spoolKey, c.memberId as memberId, c.modifiedAt as modifiedAt " +
+			"from Comment c where c.spoolKey is not null")
+	List<PendingImage> findPendingImages();
 }
\ No newline at end of file
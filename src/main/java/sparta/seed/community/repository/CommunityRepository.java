@@ -1,6 +1,10 @@
 package sparta.seed.community.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sparta.seed.community.domain.Community;
 import sparta.seed.community.repository.customrepository.CommunityRepositoryCustom;
 
@@ -9,5 +13,36 @@ import java.util.List;
 public interface CommunityRepository extends JpaRepository<Community, Long>, CommunityRepositoryCustom {
   List<Community> findByMemberIdOrderByCreatedAtDesc(Long id);
 
+  List<Community> findAllByEndDateGreaterThanEqual(String endDate);
 
+  /**
+   * 참가자 수 증가 - 모집인원이 남아있을 때만 증가하므로 0이 리턴되면 인원 초과
+   */
+  @Transactional
+  @Modifying
+  @Query("update Community c set c.participantCount = c.participantCount + 1 where c.id = :id and c.participantCount < c.limitParticipants")
+  int increaseParticipantCount(@Param("id") Long id);
+
+  @Transactional
+  @Modifying
+  @Query("update Community c set c.proofCount = c.proofCount + 1 where c.id = :id")
+  int increaseProofCount(@Param("id") Long id);
+
+  @Transactional
+  @Modifying
+  @Query("update Community c set c.proofCount = c.proofCount - 1 where c.id = :id and c.proofCount > 0")
+  int decreaseProofCount(@Param("id") Long id);
+
+  /**
+   * 카운터 보정 - 실제 참가자 / 인증글 수로 덮어쓴다
+   */
+  @Transactional
+  @Modifying
+  @Query("update Community c set c.participantCount = (select count(p) from Participants p where p.community = c)")
+  int syncParticipantCount();
+
+  @Transactional
+  @Modifying
+  @Query("update Community c set c.proofCount = (select count(p) from Proof p where p.community = c)")
+  int syncProofCount();
 }
@@ -1,14 +1,53 @@
 package sparta.seed.community.repository;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sparta.seed.community.domain.Proof;
 import sparta.seed.community.repository.customrepository.ProofRepositoryCustom;
 
 import java.util.List;
 
 public interface ProofRepository extends JpaRepository<Proof,Long>, ProofRepositoryCustom {
-	Page<Proof> findAllByCommunity_Id (Long communityId, Pageable pageable);
+	//count 쿼리 없이 size + 1개만 조회 (page 방식 / cursor 방식)
+	Slice<Proof> findSliceByCommunity_Id (Long communityId, Pageable pageable);
+	Slice<Proof> findSliceByCommunity_IdAndIdLessThan (Long communityId, Long cursor, Pageable pageable);
 	List<Proof> findAllByCommunity_Id (Long communityId);
+
+	@Transactional
+	@Modifying
+	@Query("update Proof p set p.heartCount = p.heartCount + 1 where p.id = :id")
+	int increaseHeartCount(@Param("id") Long id);
+
+	@Transactional
+	@Modifying
+	@Query("update Proof p set p.heartCount = p.heartCount - 1 where p.id = :id and p.heartCount > 0")
+	int decreaseHeartCount(@Param("id") Long id);
+
+	@Transactional
+	@Modifying
+	@Query("update Proof p set p.commentCount = p.commentCount + 1 where p.id = :id")
+	int increaseCommentCount(@Param("id") Long id);
+
+	@Transactional
+	@Modifying
+	@Query("update Proof p set p.commentCount = p.commentCount - 1 where p.id = :id and p.commentCount > 0")
+	int decreaseCommentCount(@Param("id") Long id);
+
+	/**
+	 * 카운터 보정 - 실제 좋아요 / 댓글 수로 덮어쓴다
+	 */
+	@Transactional
+	@Modifying
+	@Query("update Proof p set p.heartCount = (select count(h) from Heart h where h.proof = p)")
+	int syncHeartCount();
+
+	@Transactional
+	@Modifying
+	@Query("update Proof p set p.commentCount = (select count(c) from Comment c where c.proof = p)")
+	int syncCommentCount();
 }
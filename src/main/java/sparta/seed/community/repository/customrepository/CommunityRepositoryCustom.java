@@ -1,16 +1,17 @@
 package sparta.seed.community.repository.customrepository;
 
-import com.querydsl.core.QueryResults;
 import org.springframework.data.domain.Pageable;
-import sparta.seed.community.domain.Community;
 import sparta.seed.community.domain.dto.requestdto.CommunitySearchCondition;
+import sparta.seed.community.domain.dto.responsedto.CommunityCountDto;
 
 import java.util.List;
 
 public interface CommunityRepositoryCustom {
-  QueryResults<Community> getAllCommunity(Pageable pageable, CommunitySearchCondition condition);
+  List<CommunityCountDto> getAllCommunity(Pageable pageable, CommunitySearchCondition condition);
 
-  List<Community> activeCommunity();
+  List<CommunityCountDto> activeCommunity();
 
-  List<Community> endOfCommunity();
+  List<CommunityCountDto> endOfCommunity();
+
+  List<CommunityCountDto> getCommunityCountDtos(List<Long> communityIds);
 }
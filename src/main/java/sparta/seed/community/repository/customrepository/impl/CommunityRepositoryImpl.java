@@ -1,48 +1,89 @@
 package sparta.seed.community.repository.customrepository.impl;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.util.StringUtils;
-import sparta.seed.community.domain.Community;
 import sparta.seed.community.domain.dto.requestdto.CommunitySearchCondition;
+import sparta.seed.community.domain.dto.responsedto.CommunityCountDto;
+import sparta.seed.community.domain.dto.responsedto.QCommunityCountDto;
 import sparta.seed.community.repository.customrepository.CommunityRepositoryCustom;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static sparta.seed.community.domain.QCommunity.community;
+import static sparta.seed.community.domain.QHeart.heart;
+import static sparta.seed.community.domain.QProof.proof;
 
 
 @RequiredArgsConstructor
 public class CommunityRepositoryImpl implements CommunityRepositoryCustom {
   private final JPAQueryFactory queryFactory;
 
+  /**
+   * 전체 조회 - size + 1개를 가져와서 다음 페이지 여부 판단 (count 쿼리 없음)
+   * cursor가 있으면 offset 없이 id < cursor 부터 조회
+   */
   @Override
-  public QueryResults<Community> getAllCommunity(Pageable pageable, CommunitySearchCondition condition) {
-    return queryFactory
-            .selectFrom(community)
-            .where(titleEq(condition))
-            .offset(pageable.getOffset())
+  public List<CommunityCountDto> getAllCommunity(Pageable pageable, CommunitySearchCondition condition) {
+    JPAQuery<CommunityCountDto> query = queryFactory
+            .select(new QCommunityCountDto(community, community.participantCount))
+            .from(community)
+            .where(titleEq(condition), idLt(condition.getCursor()))
             .limit(pageable.getPageSize() + 1)
-            .orderBy(community.id.desc())
-            .fetchResults();
+            .orderBy(community.id.desc());
+    if (condition.getCursor() == null) {
+      query.offset(pageable.getOffset());
+    }
+    List<CommunityCountDto> results = query.fetch();
+    setCertifiedProofCnt(results);
+    return results;
   }
   @Override
-  public List<Community> activeCommunity() {
-    return queryFactory.selectFrom(community)
-            .where(community.endDate.goe(String.valueOf(LocalDate.now())), (community.proofList.size()).goe(1))
-            .orderBy(community.proofList.size().desc()).limit(10)
+  public List<CommunityCountDto> activeCommunity() {
+    List<CommunityCountDto> results = queryFactory.select(new QCommunityCountDto(community, community.participantCount))
+            .from(community)
+            .where(community.endDate.goe(String.valueOf(LocalDate.now())), community.proofCount.goe(1))
+            .orderBy(community.proofCount.desc()).limit(10)
             .fetch();
+    setCertifiedProofCnt(results);
+    return results;
   }
   @Override
-  public List<Community> endOfCommunity() {
-    return queryFactory.selectFrom(community)
-            .where(community.endDate.gt(String.valueOf(LocalDate.now())), (community.limitParticipants).gt(community.participantsList.size()))
-            .orderBy(community.endDate.asc(),community.participantsList.size().desc()).limit(10)
+  public List<CommunityCountDto> endOfCommunity() {
+    List<CommunityCountDto> results = queryFactory.select(new QCommunityCountDto(community, community.participantCount))
+            .from(community)
+            .where(community.endDate.gt(String.valueOf(LocalDate.now())), (community.limitParticipants).gt(community.participantCount))
+            .orderBy(community.endDate.asc(),community.participantCount.desc()).limit(10)
             .fetch();
+    setCertifiedProofCnt(results);
+    return results;
+  }
+
+  /**
+   * 랭킹(Redis)에서 꺼낸 ID 순서대로 캠페인 조회
+   */
+  @Override
+  public List<CommunityCountDto> getCommunityCountDtos(List<Long> communityIds) {
+    if (communityIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<CommunityCountDto> results = queryFactory.select(new QCommunityCountDto(community, community.participantCount))
+            .from(community)
+            .where(community.id.in(communityIds))
+            .fetch();
+    setCertifiedProofCnt(results);
+    results.sort(Comparator.comparingInt(result -> communityIds.indexOf(result.getCommunity().getId())));
+    return results;
   }
 
 
@@ -50,4 +91,44 @@ public class CommunityRepositoryImpl implements CommunityRepositoryCustom {
     return StringUtils.hasText(condition.getTitle()) ? community.title.contains(condition.getTitle()) : null;
   }
 
+  private BooleanExpression idLt(Long cursor) {
+    return cursor != null ? community.id.lt(cursor) : null;
+  }
+
+  /**
+   * 페이지에 포함된 캠페인들의 인증글별 좋아요 수를 한번에 집계해서 인증된 인증글 수를 채워준다.
+   * 참가자가 2명 이상이면 좋아요 2개, 1명이면 좋아요 1개 이상인 인증글을 인증된 글로 본다.
+   */
+  private void setCertifiedProofCnt(List<CommunityCountDto> results) {
+    if (results.isEmpty()) {
+      return;
+    }
+    List<Long> communityIds = results.stream()
+            .map(result -> result.getCommunity().getId())
+            .collect(Collectors.toList());
+
+    List<Tuple> heartCntList = queryFactory.select(proof.community.id, heart.count())
+            .from(heart)
+            .join(heart.proof, proof)
+            .where(proof.community.id.in(communityIds))
+            .groupBy(proof.id, proof.community.id)
+            .fetch();
+
+    // [0] : 좋아요 1개 이상인 인증글 수, [1] : 좋아요 2개 이상인 인증글 수
+    Map<Long, long[]> certifiedMap = new HashMap<>();
+    for (Tuple tuple : heartCntList) {
+      long[] certified = certifiedMap.computeIfAbsent(tuple.get(proof.community.id), id -> new long[2]);
+      Long heartCnt = tuple.get(heart.count());
+      certified[0]++;
+      if (heartCnt != null && heartCnt >= 2) {
+        certified[1]++;
+      }
+    }
+
+    for (CommunityCountDto result : results) {
+      long[] certified = certifiedMap.getOrDefault(result.getCommunity().getId(), new long[2]);
+      result.setCertifiedProofCnt(result.getParticipantsCnt() >= 2 ? certified[1] : certified[0]);
+    }
+  }
+
 }
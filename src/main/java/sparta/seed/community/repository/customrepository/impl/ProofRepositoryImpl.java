@@ -1,14 +1,12 @@
 package sparta.seed.community.repository.customrepository.impl;
 
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import sparta.seed.community.domain.Community;
 import sparta.seed.community.repository.customrepository.ProofRepositoryCustom;
 
-import javax.persistence.EntityManager;
-import javax.persistence.PersistenceContext;
-
-import static sparta.seed.community.domain.QCommunity.community;
+import static sparta.seed.community.domain.QHeart.heart;
 import static sparta.seed.community.domain.QProof.proof;
 
 @RequiredArgsConstructor
@@ -17,19 +15,27 @@ public class ProofRepositoryImpl implements ProofRepositoryCustom {
 
   @Override
   public long countOfCertifiedProofByOnePeople(Community find) {
-    long result = queryFactory.selectFrom(proof)
-            .leftJoin(proof.community, community)
-            .where(proof.heartList.size().goe(1).and(proof.community.eq(find)))
-            .fetchCount();
-    return result;
+    return countOfCertifiedProof(find, 1);
   }
 
   @Override
   public long countOfCertifiedProofByMoreThanTwoPeople(Community find) {
-    long result = queryFactory.selectFrom(proof)
-            .leftJoin(proof.community, community)
-            .where(proof.heartList.size().goe(2).and(proof.community.eq(find)))
-            .fetchCount();
-    return result;
+    return countOfCertifiedProof(find, 2);
+  }
+
+  /**
+   * 좋아요가 minHeartCnt개 이상인 인증글 수 - 좋아요 집계는 그룹 서브쿼리에서 하고 select count 한번으로 끝낸다
+   */
+  private long countOfCertifiedProof(Community find, long minHeartCnt) {
+    Long result = queryFactory.select(proof.count())
+            .from(proof)
+            .where(proof.community.eq(find),
+                    proof.id.in(JPAExpressions.select(heart.proof.id)
+                            .from(heart)
+                            .where(heart.proof.community.eq(find))
+                            .groupBy(heart.proof.id)
+                            .having(heart.count().goe(minHeartCnt))))
+            .fetchOne();
+    return result == null ? 0 : result;
   }
 }
@@ -1,6 +1,10 @@
 package sparta.seed.community.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -14,6 +18,10 @@ import sparta.seed.community.repository.ParticipantsRepository;
 import sparta.seed.community.repository.ProofRepository;
 import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
+import sparta.seed.img.domain.SpooledImage;
+import sparta.seed.img.domain.event.ImageSpooledEvent;
+import sparta.seed.img.service.DeferredImageService;
+import sparta.seed.img.service.ImageIndex;
 import sparta.seed.jwt.TokenProvider;
 import sparta.seed.s3.S3Uploader;
 import sparta.seed.login.UserDetailsImpl;
@@ -29,23 +37,40 @@ public class CommentService {
 	private final ProofRepository proofRepository;
 	private final CommentRepository commentRepository;
 	private final S3Uploader s3Uploader;
+	private final DeferredImageService deferredImageService;
+	private final ImageIndex imageIndex;
 	private final ParticipantsRepository participantsRepository;
 	private final TokenProvider tokenProvider;
 	private final CommunityService communityService;
 	private final SlangService slangService;
+	//댓글 한번에 조회할 최대 개수
+	private static final int MAX_PAGE_SIZE = 100;
 
 
 	/**
-	 * 댓글 조회
+	 * 댓글 조회 - size가 없으면 전체, 있으면 cursor(마지막으로 받은 댓글 id) 다음부터 size개
 	 */
-	public CommentResponseListDto getAllComment(Long proofId, UserDetailsImpl userDetails, HttpServletRequest servletRequest) {
+	public CommentResponseListDto getAllComment(Long proofId, Long cursor, Integer size, UserDetailsImpl userDetails, HttpServletRequest servletRequest) {
 
 		tokenProvider.validateHttpHeader(servletRequest);
 
 		try {
-			List<Comment> commentList = commentRepository.findAllByProof_Id(proofId);
 			CommentResponseListDto commentResponseListDtoList = new CommentResponseListDto(proofId,
 					communityService.getDateStatus(proofRepository.findById(proofId).get().getCommunity()));
+			List<Comment> commentList;
+			if (size == null) {
+				commentList = commentRepository.findAllByProof_Id(proofId);
+			} else {
+				Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), Sort.by(Sort.Direction.ASC, "id"));
+				Slice<Comment> commentSlice = cursor == null
+						? commentRepository.findSliceByProof_Id(proofId, pageable)
+						: commentRepository.findSliceByProof_IdAndIdGreaterThan(proofId, cursor, pageable);
+				commentList = commentSlice.getContent();
+				commentResponseListDtoList.setHasNext(commentSlice.hasNext());
+				if (commentSlice.hasNext() && !commentList.isEmpty()) {
+					commentResponseListDtoList.setNextCursor(commentList.get(commentList.size() - 1).getId());
+				}
+			}
 
 			for (Comment comment : commentList) {
 				commentResponseListDtoList.addCommentResponseDto(CommentResponseDto.builder()
@@ -72,18 +97,22 @@ public class CommentService {
 		}
 		String nickname = isChangedNickname(commentRequestDto, userDetails);
 
-		slangService.checkSlang(commentRequestDto.getContent());
+		slangService.checkAll(commentRequestDto.getContent());
 
+		SpooledImage spooledImage = spoolImage(multipartFile);
 		Comment comment = Comment.builder()
 						.memberId(userDetails.getId())
 						.nickname(nickname)
 						.content(commentRequestDto.getContent())
-						.img(returnImageUrl(multipartFile))
+						.img(spooledImage != null ? deferredImageService.getPlaceholderUrl() : returnImageUrl(multipartFile))
+						.spoolKey(spooledImage != null ? spooledImage.getKey() : null)
 						.proof(proof)
 						.build();
 				proof.addComment(comment);
 
 				commentRepository.save(comment);
+				proofRepository.increaseCommentCount(proof.getId());
+				processSpooledImage(comment, spooledImage);
 		return ResponseEntity.ok().body(CommentResponseDto.builder()
 						.commentId(comment.getId())
 						.content(comment.getContent())
@@ -104,11 +133,18 @@ public class CommentService {
 		String nickname = isChangedNickname(commentRequestDto, userDetails);
 
 		if (userDetails != null && comment.getMemberId().equals(userDetails.getId())) {
-			slangService.checkSlang(commentRequestDto.getContent());
+			slangService.checkAll(commentRequestDto.getContent());
 			comment.update(commentRequestDto.getContent(),nickname);
 
 			if (commentRequestDto.isDelete() | multipartFile != null) {
-				comment.setImg(returnImageUrl(multipartFile));
+				SpooledImage spooledImage = spoolImage(multipartFile);
+				imageIndex.release(comment.getImg());
+				if (spooledImage != null) {
+					comment.setProcessingImg(deferredImageService.getPlaceholderUrl(), spooledImage.getKey());
+				} else {
+					comment.setImg(returnImageUrl(multipartFile));
+				}
+				processSpooledImage(comment, spooledImage);
 			}
 
 			return ResponseEntity.ok().body(CommentResponseDto.builder()
@@ -124,8 +160,9 @@ public class CommentService {
 	}
 
 	/**
-	 * 댓글 삭제
+	 * 댓글 삭제 - 이미지 refCount는 커밋 후 반영
 	 */
+	@Transactional
 	public ResponseEntity<Boolean> deleteComment(Long commentId, UserDetailsImpl userDetails) {
 		Comment comment = commentRepository.findById(commentId)
 				.orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_COMMENT));
@@ -134,7 +171,9 @@ public class CommentService {
 
 		if(userDetails !=null && comment.getMemberId().equals(userDetails.getId())){
 			proof.removeComment(comment);
+			imageIndex.release(comment.getImg());
 			commentRepository.delete(comment);
+			proofRepository.decreaseCommentCount(proof.getId());
 			return ResponseEntity.ok().body(true);
 		}throw new CustomException(ErrorCode.INCORRECT_USERID);
 	}
@@ -145,6 +184,22 @@ public class CommentService {
 		}else return null;
 	}
 
+	/**
+	 * 지연 처리 모드면 원본을 스풀에 저장 (아니면 null)
+	 */
+	private SpooledImage spoolImage(MultipartFile multipartFile) throws IOException {
+		if (multipartFile != null && deferredImageService.isEnabled()) {
+			return deferredImageService.spool(multipartFile);
+		}
+		return null;
+	}
+
+	private void processSpooledImage(Comment comment, SpooledImage spooledImage) {
+		if (spooledImage != null) {
+			deferredImageService.process(ImageSpooledEvent.Target.COMMENT, comment.getId(), comment.getMemberId(), spooledImage);
+		}
+	}
+
 	private String isChangedNickname(CommentRequestDto commentRequestDto, UserDetailsImpl userDetails) {
 		String nickname;
 		if(commentRequestDto.getChangeNickname()!=null){
@@ -0,0 +1,140 @@
+package sparta.seed.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sparta.seed.community.domain.Community;
+import sparta.seed.community.repository.CommunityRepository;
+import sparta.seed.util.RedisService;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인기그룹 / 종료임박그룹 랭킹 (Redis ZSET)
+ * popular : score = 인증글 수
+ * endingSoon : score = 마감일(epochDay) + 1/(참가자수+2) -> 마감일 오름차순, 같은 날이면 참가자 많은 순
+ * 변경은 트랜잭션 안에서 호출되면 커밋 후 반영 (롤백되면 랭킹도 그대로)
+ */
+@Service
+@RequiredArgsConstructor
+public class CommunityRankingService {
+  public static final String POPULAR_KEY = "community:popular";
+  public static final String ENDING_SOON_KEY = "community:endingSoon";
+  private static final int RANKING_SIZE = 10;
+
+  private final RedisService redisService;
+  private final CommunityRepository communityRepository;
+
+  /**
+   * 인기그룹 ID - 인증글 1개 이상, 인증글 많은 순
+   */
+  public List<Long> getPopularIds() {
+    return toIds(redisService.getZSetDescByScore(POPULAR_KEY, 1, RANKING_SIZE));
+  }
+
+  /**
+   * 종료임박그룹 ID - 내일 이후 마감 + 모집인원 남은 그룹
+   */
+  public List<Long> getEndingSoonIds() {
+    return toIds(redisService.getZSetAscByScore(ENDING_SOON_KEY, LocalDate.now().plusDays(1).toEpochDay(), RANKING_SIZE));
+  }
+
+  /**
+   * 캠페인 작성 / 수정
+   */
+  public void addCommunity(Community community, int participantCount, int proofCount) {
+    String member = String.valueOf(community.getId());
+    if (isEnded(community)) {
+      removeCommunity(community.getId());
+      return;
+    }
+    afterCommit(() -> redisService.addZSet(POPULAR_KEY, member, proofCount));
+    updateEndingSoon(community, participantCount);
+  }
+
+  /**
+   * 캠페인 참가 - 모집이 끝나면 종료임박 랭킹에서 제외
+   */
+  public void updateEndingSoon(Community community, int participantCount) {
+    String member = String.valueOf(community.getId());
+    if (participantCount < community.getLimitParticipants() && !isEnded(community)) {
+      double score = endingSoonScore(community, participantCount);
+      afterCommit(() -> redisService.addZSet(ENDING_SOON_KEY, member, score));
+    } else {
+      afterCommit(() -> redisService.removeZSet(ENDING_SOON_KEY, member));
+    }
+  }
+
+  /**
+   * 인증글 작성 / 삭제 - 랭킹에 있는 캠페인만 증감 (마감 / 삭제된 캠페인은 다시 넣지 않음)
+   */
+  public void changeProofCount(Long communityId, int delta) {
+    afterCommit(() -> redisService.incrementZSetScore(POPULAR_KEY, String.valueOf(communityId), delta));
+  }
+
+  /**
+   * 캠페인 삭제
+   */
+  public void removeCommunity(Long communityId) {
+    afterCommit(() -> {
+      redisService.removeZSet(POPULAR_KEY, String.valueOf(communityId));
+      redisService.removeZSet(ENDING_SOON_KEY, String.valueOf(communityId));
+    });
+  }
+
+  /**
+   * MySQL 기준으로 랭킹 재구성 (스케줄러 연동) - 마감된 그룹 정리 + 증감 누락 보정
+   */
+  public void rebuild() {
+    List<Community> communities = communityRepository.findAllByEndDateGreaterThanEqual(String.valueOf(LocalDate.now()));
+    Set<ZSetOperations.TypedTuple<String>> popular = new HashSet<>();
+    Set<ZSetOperations.TypedTuple<String>> endingSoon = new HashSet<>();
+    for (Community community : communities) {
+      String member = String.valueOf(community.getId());
+      popular.add(new DefaultTypedTuple<>(member, (double) community.getProofCount()));
+      if (community.getParticipantCount() < community.getLimitParticipants()) {
+        endingSoon.add(new DefaultTypedTuple<>(member, endingSoonScore(community, community.getParticipantCount())));
+      }
+    }
+    redisService.replaceZSet(POPULAR_KEY, popular);
+    redisService.replaceZSet(ENDING_SOON_KEY, endingSoon);
+  }
+
+  /**
+   * 트랜잭션 안이면 커밋 후, 아니면 바로 실행
+   */
+  private void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+
+  private double endingSoonScore(Community community, int participantCount) {
+    return LocalDate.parse(community.getEndDate()).toEpochDay() + 1.0 / (participantCount + 2);
+  }
+
+  private boolean isEnded(Community community) {
+    return community.getEndDate().compareTo(String.valueOf(LocalDate.now())) < 0;
+  }
+
+  private List<Long> toIds(Set<String> members) {
+    if (members == null) {
+      return List.of();
+    }
+    return members.stream().map(Long::valueOf).collect(Collectors.toList());
+  }
+}
@@ -1,6 +1,5 @@
 package sparta.seed.community.service;
 
-import com.querydsl.core.QueryResults;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -15,6 +14,7 @@ import sparta.seed.community.domain.Participants;
 import sparta.seed.community.domain.dto.requestdto.CommunityRequestDto;
 import sparta.seed.community.domain.dto.requestdto.CommunitySearchCondition;
 import sparta.seed.community.domain.dto.responsedto.CommunityAllResponseDto;
+import sparta.seed.community.domain.dto.responsedto.CommunityCountDto;
 import sparta.seed.community.domain.dto.responsedto.CommunityResponseDto;
 import sparta.seed.community.domain.dto.responsedto.ParticipantResponseDto;
 import sparta.seed.community.repository.CommunityRepository;
@@ -24,6 +24,8 @@ import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
 import sparta.seed.jwt.TokenProvider;
 import sparta.seed.msg.ResponseMsg;
+import sparta.seed.img.service.ImageIndex;
+import sparta.seed.s3.S3Dto;
 import sparta.seed.s3.S3Uploader;
 import sparta.seed.login.UserDetailsImpl;
 import sparta.seed.util.DateUtil;
@@ -45,6 +47,8 @@ public class CommunityService {
   private final ProofRepository proofRepository;
   private final TokenProvider tokenProvider;
   private final SlangService slangService;
+  private final CommunityRankingService communityRankingService;
+  private final ImageIndex imageIndex;
 
   /**
    * 캠페인 전체 조회
@@ -53,8 +57,8 @@ public class CommunityService {
 
     tokenProvider.validateHttpHeader(servletRequest);
 
-    QueryResults<Community> allCommunity = communityRepository.getAllCommunity(pageable, condition);
-    List<CommunityAllResponseDto> allCommunityList = getAllCommunityList(allCommunity, userDetails);
+    List<CommunityCountDto> allCommunity = communityRepository.getAllCommunity(pageable, condition);
+    List<CommunityAllResponseDto> allCommunityList = getCommunityAllResponseDtos(allCommunity, userDetails);
     boolean hasNext = hasNextPage(pageable, allCommunityList);
     SliceImpl<CommunityAllResponseDto> communityResponseDtos = new SliceImpl<>(allCommunityList, pageable, hasNext);
     return ResponseEntity.ok().body(communityResponseDtos);
@@ -71,6 +75,8 @@ public class CommunityService {
 
     communityRepository.save(community);
     participantsRepository.save(groupLeader);
+    communityRepository.increaseParticipantCount(community.getId());
+    communityRankingService.addCommunity(community, 1, 0);
 
     return ResponseEntity.ok().body(ResponseMsg.WRITE_SUCCESS.getMsg());
 
@@ -95,11 +101,11 @@ public class CommunityService {
               .title(community.getTitle())
               .content(community.getContent())
               .img(community.getImg())
-              .participantsCnt(community.getParticipantsList().size())
+              .participantsCnt(community.getParticipantCount())
               .limitParticipants(community.getLimitParticipants())
               .participant(userDetails != null && participant(userDetails, community))
               .limitScore(community.getLimitScore())
-              .currentPercent(getCurrentPercent(community))
+              .currentPercent(getCurrentPercent(community, community.getParticipantCount()))
               .successPercent(getSuccessPercent(community, certifiedProof))
               .currentCertifiedProof(certifiedProof)
               .startDate(community.getStartDate())
@@ -128,13 +134,15 @@ public class CommunityService {
     String nickname = isChangedNickname(communityRequestDto, userDetails);
     if (userDetails != null && community.getMemberId().equals(userDetails.getId())) {
 
-      slangService.checkSlang(communityRequestDto.getTitle());
-      slangService.checkSlang(communityRequestDto.getContent());
+      slangService.checkAll(communityRequestDto.getTitle(), communityRequestDto.getContent());
 
       community.update(communityRequestDto, nickname);
+      communityRankingService.addCommunity(community, community.getParticipantCount(), community.getProofCount());
 
       if (communityRequestDto.isDelete() || multipartFile != null) {
-        community.setImg(returnImageUrl(multipartFile));
+        S3Dto image = returnImage(multipartFile);
+        imageIndex.release(community.getImg());
+        community.setImg(image.getUploadImageUrl(), image.getThumbnailImageUrl());
       }
 
       return ResponseEntity.ok().body(ResponseMsg.UPDATE_SUCCESS.getMsg());
@@ -143,12 +151,15 @@ public class CommunityService {
   }
 
   /**
-   * 캠페인 삭제
+   * 캠페인 삭제 - 이미지 refCount는 커밋 후 반영
    */
+  @Transactional
   public ResponseEntity<String> deleteCommunity(Long id, UserDetailsImpl userDetails) {
     Community community = findTheCommunityByMemberId(id);
     if (validateWriter(userDetails, community)) {
+      imageIndex.release(community.getImg());
       communityRepository.deleteById(id);
+      communityRankingService.removeCommunity(id);
     }
     return ResponseEntity.ok().body(ResponseMsg.DELETED_SUCCESS.getMsg());
   }
@@ -163,7 +174,7 @@ public class CommunityService {
       if (community.getMemberId().equals(userDetails.getId()) || participantsRepository.existsByCommunityAndMemberId(community, userDetails.getId())) {
         throw new CustomException(ErrorCode.ALREADY_PARTICIPATED);
       }
-      if (community.getParticipantsList().size() >= community.getLimitParticipants()) {
+      if (communityRepository.increaseParticipantCount(community.getId()) == 0) {
         throw new CustomException(ErrorCode.EXCESS_PARTICIPANT);
       }
       Participants participants = Participants.builder()
@@ -173,6 +184,7 @@ public class CommunityService {
               .build();
       community.addParticipant(participants);
       participantsRepository.save(participants);
+      communityRankingService.updateEndingSoon(community, community.getParticipantCount() + 1);
       return ResponseEntity.ok().body(ResponseMsg.JOIN_SUCCESS.getMsg());
     }
     throw new CustomException(ErrorCode.UNKNOWN_USER);
@@ -198,7 +210,10 @@ public class CommunityService {
    * 캠페인 인기그룹
    */
   public ResponseEntity<List<CommunityAllResponseDto>> activeCommunity(UserDetailsImpl userDetails) throws ParseException {
-    List<Community> communities = communityRepository.activeCommunity();
+    List<Long> popularIds = communityRankingService.getPopularIds();
+    List<CommunityCountDto> communities = popularIds.isEmpty()
+            ? communityRepository.activeCommunity()
+            : communityRepository.getCommunityCountDtos(popularIds);
     List<CommunityAllResponseDto> communityList = getCommunityAllResponseDtos(communities, userDetails);
     return ResponseEntity.ok().body(communityList);
   }
@@ -207,7 +222,10 @@ public class CommunityService {
    * 캠페인 종료임박 그룹
    */
   public ResponseEntity<List<CommunityAllResponseDto>> endOfCommunity(UserDetailsImpl userDetails) throws ParseException {
-    List<Community> communities = communityRepository.endOfCommunity();
+    List<Long> endingSoonIds = communityRankingService.getEndingSoonIds();
+    List<CommunityCountDto> communities = endingSoonIds.isEmpty()
+            ? communityRepository.endOfCommunity()
+            : communityRepository.getCommunityCountDtos(endingSoonIds);
     List<CommunityAllResponseDto> communityList = getCommunityAllResponseDtos(communities, userDetails);
     return ResponseEntity.ok().body(communityList);
   }
@@ -223,39 +241,20 @@ public class CommunityService {
     return hasNext;
   }
 
-  private List<CommunityAllResponseDto> getAllCommunityList(QueryResults<Community> allCommunity, UserDetailsImpl userDetails) throws ParseException {
-    List<CommunityAllResponseDto> communityList = new ArrayList<>();
-    for (Community community : allCommunity.getResults()) {
-      Long certifiedProof = countOfCertifiedProofBy(community);
-      communityList.add(CommunityAllResponseDto.builder()
-              .communityId(community.getId())
-              .nickname(community.getNickname())
-              .title(community.getTitle())
-              .img(community.getImg())
-              .currentPercent(getCurrentPercent(community))
-              .successPercent(getSuccessPercent(community, certifiedProof))
-              .dateStatus(getDateStatus(community))
-              .secret(community.isPasswordFlag())
-              .password(community.getPassword())
-              .writer(userDetails != null && community.getMemberId().equals(userDetails.getId()))
-              .build());
-    }
-    return communityList;
-  }
-
   private Boolean participant(UserDetailsImpl userDetails, Community community) {
     return participantsRepository.existsByCommunityAndMemberId(community, userDetails.getId());
   }
 
   private Community createCommunity(CommunityRequestDto requestDto, MultipartFile multipartFile, Long loginUserId, String nickname) throws IOException {
 
-    slangService.checkSlang(requestDto.getTitle());
-    slangService.checkSlang(requestDto.getContent());
+    slangService.checkAll(requestDto.getTitle(), requestDto.getContent());
 
+    S3Dto image = returnImage(multipartFile);
     return Community.builder()
             .title(requestDto.getTitle())
             .content(requestDto.getContent())
-            .img(returnImageUrl(multipartFile))
+            .img(image.getUploadImageUrl())
+            .thumbnailImg(image.getThumbnailImageUrl())
             .secret(requestDto.isSecret())
             .password(requestDto.getPassword())
             .memberId(loginUserId)
@@ -280,7 +279,7 @@ public class CommunityService {
   }
 
   private Long countOfCertifiedProofBy(Community community) {
-    if (community.getParticipantsList().size() >= 2) {
+    if (community.getParticipantCount() >= 2) {
       return proofRepository.countOfCertifiedProofByMoreThanTwoPeople(community);
     } else {
       return proofRepository.countOfCertifiedProofByOnePeople(community);
@@ -297,41 +296,47 @@ public class CommunityService {
     return dateUtil.dateStatus(community.getStartDate(), community.getEndDate());
   }
 
-  private String returnImageUrl(MultipartFile multipartFile) throws IOException {
+  /**
+   * 이미지가 없으면 기본 이미지 중 하나 (원본 / 썸네일 같은 주소)
+   */
+  private S3Dto returnImage(MultipartFile multipartFile) throws IOException {
     String[] defaultImgList = {"https://usearth.s3.ap-northeast-2.amazonaws.com/usimg/defaultImg1.png",
             "https://usearth.s3.ap-northeast-2.amazonaws.com/usimg/defaultImg2.png",
             "https://usearth.s3.ap-northeast-2.amazonaws.com/usimg/defaultImg3.png",
             "https://usearth.s3.ap-northeast-2.amazonaws.com/usimg/defaultImg4.png"};
 
     if (multipartFile != null) {
-      return s3Uploader.upload(multipartFile).getUploadImageUrl();
-    } else return defaultImgList[(int) (Math.random() * 4)];
+      return s3Uploader.upload(multipartFile);
+    }
+    String defaultImg = defaultImgList[(int) (Math.random() * 4)];
+    return S3Dto.builder().uploadImageUrl(defaultImg).feedImageUrl(defaultImg).thumbnailImageUrl(defaultImg).build();
   }
 
 
-  private List<CommunityAllResponseDto> getCommunityAllResponseDtos(List<Community> communities, UserDetailsImpl
+  private List<CommunityAllResponseDto> getCommunityAllResponseDtos(List<CommunityCountDto> communities, UserDetailsImpl
           userDetails) throws ParseException {
     List<CommunityAllResponseDto> communityList = new ArrayList<>();
-    for (Community community : communities) {
-        Long certifiedProof = countOfCertifiedProofBy(community);
-        communityList.add(CommunityAllResponseDto.builder()
-                .communityId(community.getId())
-                .nickname(community.getNickname())
-                .title(community.getTitle())
-                .img(community.getImg())
-                .currentPercent(getCurrentPercent(community))
-                .successPercent(getSuccessPercent(community, certifiedProof))
-                .dateStatus(getDateStatus(community))
-                .secret(community.isPasswordFlag())
-                .password(community.getPassword())
-                .writer(userDetails != null && community.getMemberId().equals(userDetails.getId()))
-                .build());
+    for (CommunityCountDto communityCountDto : communities) {
+      Community community = communityCountDto.getCommunity();
+      communityList.add(CommunityAllResponseDto.builder()
+              .communityId(community.getId())
+              .nickname(community.getNickname())
+              .title(community.getTitle())
+              .img(community.getImg())
+              .thumbnailImg(community.getThumbnailImg() != null ? community.getThumbnailImg() : community.getImg())
+              .currentPercent(getCurrentPercent(community, communityCountDto.getParticipantsCnt()))
+              .successPercent(getSuccessPercent(community, communityCountDto.getCertifiedProofCnt()))
+              .dateStatus(getDateStatus(community))
+              .secret(community.isPasswordFlag())
+              .password(community.getPassword())
+              .writer(userDetails != null && community.getMemberId().equals(userDetails.getId()))
+              .build());
     }
     return communityList;
   }
 
-  private double getCurrentPercent(Community community) {
-    return ((double) community.getParticipantsList().size() / community.getLimitParticipants()) * 100;
+  private double getCurrentPercent(Community community, long participantsCnt) {
+    return ((double) participantsCnt / community.getLimitParticipants()) * 100;
   }
 
   private double getSuccessPercent(Community community, Long certifiedProof) {
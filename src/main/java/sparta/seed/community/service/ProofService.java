@@ -3,13 +3,14 @@ package sparta.seed.community.service;
 import lombok.RequiredArgsConstructor;
 
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.web.firewall.RequestRejectedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import sparta.seed.community.domain.Community;
 import sparta.seed.community.domain.Heart;
@@ -18,6 +19,7 @@ import sparta.seed.community.domain.dto.requestdto.ProofRequestDto;
 import sparta.seed.community.domain.dto.responsedto.ProofCountResponseDto;
 import sparta.seed.community.domain.dto.responsedto.ProofHeartResponseDto;
 import sparta.seed.community.domain.dto.responsedto.ProofResponseDto;
+import sparta.seed.community.domain.dto.responsedto.ProofResponseListDto;
 import sparta.seed.community.repository.CommunityRepository;
 import sparta.seed.community.repository.HeartRepository;
 import sparta.seed.community.repository.ParticipantsRepository;
@@ -25,13 +27,18 @@ import sparta.seed.community.repository.ProofRepository;
 import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
 import sparta.seed.img.domain.Img;
+import sparta.seed.img.domain.ImgStatus;
+import sparta.seed.img.domain.SpooledImage;
+import sparta.seed.img.domain.event.ImageSpooledEvent;
 import sparta.seed.img.repository.ImgRepository;
+import sparta.seed.img.service.DeferredImageService;
+import sparta.seed.img.service.ImageIndex;
 import sparta.seed.jwt.TokenProvider;
 import sparta.seed.member.domain.Member;
 import sparta.seed.member.repository.MemberRepository;
 import sparta.seed.msg.ResponseMsg;
 import sparta.seed.s3.S3Dto;
-import sparta.seed.s3.S3Uploader;
+import sparta.seed.s3.ImageUploadPipeline;
 import sparta.seed.login.UserDetailsImpl;
 import sparta.seed.util.DateUtil;
 
@@ -39,8 +46,12 @@ import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -52,13 +63,20 @@ public class ProofService {
   private final ParticipantsRepository participantsRepository;
   private final HeartRepository heartRepository;
   private final ImgRepository imgRepository;
-  private final S3Uploader s3Uploader;
+  private final ImageUploadPipeline imageUploadPipeline;
+  private final DeferredImageService deferredImageService;
+  private final ImageIndex imageIndex;
   private final DateUtil dateUtil;
   private final TokenProvider tokenProvider;
   private final SlangService slangService;
+  private final CommunityRankingService communityRankingService;
+  // 회원탈퇴시 네이버 기본이미지로
+  private static final String DEFAULT_PROFILE_IMAGE = "https://ssl.pstatic.net/static/pwe/address/img_profile.png";
+  // 인증글 한번에 조회할 최대 개수
+  private static final int MAX_PAGE_SIZE = 100;
 
   /**
-   * 글에 달린 인증글 조회
+   * 글에 달린 인증글 조회 - page 방식 (응답은 기존처럼 배열)
    */
   public List<ProofResponseDto> getAllProof(Long communityId, int page, int size, UserDetailsImpl userDetails, HttpServletRequest servletRequest) {
 
@@ -66,14 +84,28 @@ public class ProofService {
 
     Sort.Direction direction = Sort.Direction.DESC;
     Sort sort = Sort.by(direction, "id");
-    Pageable pageable = PageRequest.of(page, size, sort);
     try {
-      Page<Proof> replayList = proofRepository.findAllByCommunity_Id(communityId, pageable);
-      List<ProofResponseDto> proofResponseDtoList = new ArrayList<>();
-      for (Proof proof : replayList) {
-        proofResponseDtoList.add(buildProofResponseDto(userDetails, proof));
-      }
-      return proofResponseDtoList;
+      Pageable pageable = PageRequest.of(page, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), sort);
+      Slice<Proof> replayList = proofRepository.findSliceByCommunity_Id(communityId, pageable);
+      return buildProofResponseDtos(userDetails, replayList.getContent());
+    } catch (Exception e) {
+      throw new CustomException(ErrorCode.NOT_FOUND_PROOF);
+    }
+  }
+
+  /**
+   * 글에 달린 인증글 조회 - cursor(마지막으로 받은 인증글 id) 다음부터, cursor가 없으면 최신글부터
+   */
+  public ProofResponseListDto getProofSlice(Long communityId, Long cursor, int size, UserDetailsImpl userDetails, HttpServletRequest servletRequest) {
+
+    tokenProvider.validateHttpHeader(servletRequest);
+
+    Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)), Sort.by(Sort.Direction.DESC, "id"));
+    try {
+      Slice<Proof> replayList = cursor == null
+              ? proofRepository.findSliceByCommunity_Id(communityId, pageable)
+              : proofRepository.findSliceByCommunity_IdAndIdLessThan(communityId, cursor, pageable);
+      return new ProofResponseListDto(buildProofResponseDtos(userDetails, replayList.getContent()), replayList.hasNext());
     } catch (Exception e) {
       throw new CustomException(ErrorCode.NOT_FOUND_PROOF);
     }
@@ -88,7 +120,7 @@ public class ProofService {
 
     try {
       Proof proof = findTheProofById(proofId);
-      return buildProofResponseDto(userDetails, proof);
+      return buildProofResponseDtos(userDetails, List.of(proof)).get(0);
     } catch (RequestRejectedException e) {
       throw new CustomException(ErrorCode.UNDEFINDED_PATH);
     } catch (NullPointerException e) {
@@ -111,8 +143,7 @@ public class ProofService {
         nickname = proofRequestDto.getChangeNickname();
       }
 
-      slangService.checkSlang(proofRequestDto.getTitle());
-      slangService.checkSlang(proofRequestDto.getContent());
+      slangService.checkAll(proofRequestDto.getTitle(), proofRequestDto.getContent());
 
       Proof proof = Proof.builder()
               .memberId(userDetails.getId())
@@ -124,8 +155,10 @@ public class ProofService {
 
       if (participantsRepository.existsByCommunityAndMemberId(community, userDetails.getId())) {
         List<Img> imgList = new ArrayList<>();
-        buildImgList(multipartFile, proof, imgList);
-        proofRepository.save(proof);
+        List<SpooledImage> spooledImages = buildImgList(multipartFile, proof, imgList);
+        processSpooledImgs(proofRepository.save(proof), spooledImages, userDetails.getId());
+        communityRepository.increaseProofCount(community.getId());
+        communityRankingService.changeProofCount(community.getId(), 1);
         return ResponseEntity.ok().body(ResponseMsg.WRITE_SUCCESS.getMsg());
 
       } else throw new CustomException(ErrorCode.NOT_PARTICIPATED);
@@ -133,8 +166,9 @@ public class ProofService {
   }
 
   /**
-   * 인증글 수정
+   * 인증글 수정 - 지운 이미지의 refCount는 커밋 후 반영
    */
+  @Transactional
   public ResponseEntity<String> updateProof(Long proofId, ProofRequestDto proofRequestDto,
                                             List<MultipartFile> multipartFile, UserDetailsImpl userDetails) throws IOException {
     Proof proof = findTheProofById(proofId);
@@ -145,23 +179,29 @@ public class ProofService {
         nickname = proofRequestDto.getChangeNickname();
       }
 
-      slangService.checkSlang(proofRequestDto.getTitle());
-      slangService.checkSlang(proofRequestDto.getContent());
+      slangService.checkAll(proofRequestDto.getTitle(), proofRequestDto.getContent());
 
       proof.updateProof(proofRequestDto.getTitle(), proofRequestDto.getContent(), nickname);
 
       if (proofRequestDto.getImgIdList().length > 0) {
-        for (int i = 0; i < proofRequestDto.getImgIdList().length; i++) {
-          imgRepository.deleteById(proofRequestDto.getImgIdList()[i]);
+        // 이 인증글의 이미지만 지운다
+        Set<Long> deleteImgIds = new HashSet<>(Arrays.asList(proofRequestDto.getImgIdList()));
+        for (Img img : new ArrayList<>(proof.getImgList())) {
+          if (deleteImgIds.contains(img.getId())) {
+            proof.removeImg(img);
+            imgRepository.delete(img);
+            imageIndex.release(img.getImgUrl());
+          }
         }
       }
 
       List<Img> imgList = new ArrayList<>();
 
+      List<SpooledImage> spooledImages = new ArrayList<>();
       if (multipartFile != null) {
-        buildImgList(multipartFile, proof, imgList);
+        spooledImages = buildImgList(multipartFile, proof, imgList);
       }
-      proofRepository.save(proof);
+      processSpooledImgs(proofRepository.save(proof), spooledImages, userDetails.getId());
       return ResponseEntity.ok().body(ResponseMsg.UPDATE_SUCCESS.getMsg());
 
     }
@@ -169,13 +209,18 @@ public class ProofService {
   }
 
   /**
-   * 인증글 삭제
+   * 인증글 삭제 - 이미지 refCount는 커밋 후 반영
    */
+  @Transactional
   public ResponseEntity<Boolean> deleteProof(Long proofId, UserDetailsImpl userDetails) {
     Proof proof = findTheProofById(proofId);
 
     if (userDetails != null && proof.getMemberId().equals(userDetails.getId())) {
+      proof.getImgList().forEach(img -> imageIndex.release(img.getImgUrl()));
+      proof.getCommentList().forEach(comment -> imageIndex.release(comment.getImg()));
       proofRepository.delete(proof);
+      communityRepository.decreaseProofCount(proof.getCommunity().getId());
+      communityRankingService.changeProofCount(proof.getCommunity().getId(), -1);
       return ResponseEntity.ok().body(true);
     }
     throw new CustomException(ErrorCode.INCORRECT_USERID);
@@ -191,8 +236,8 @@ public class ProofService {
     Proof proof = findTheProofById(proofId);
     return ProofCountResponseDto.builder()
             .proofId(proof.getId())
-            .commentCnt(proof.getCommentList().size())
-            .heartCnt(proof.getHeartList().size())
+            .commentCnt(proof.getCommentCount())
+            .heartCnt(proof.getHeartCount())
             .participant(userDetails != null && participantsRepository.existsByCommunityAndMemberId(proof.getCommunity(), userDetails.getId()))
             .heart(userDetails != null && heartRepository.existsByProofAndMemberId(proof, userDetails.getId()))
             .build();
@@ -213,20 +258,20 @@ public class ProofService {
                 .proof(proof)
                 .memberId(loginUserId)
                 .build();
-        proof.addHeart(heart);
         heartRepository.save(heart);
+        proofRepository.increaseHeartCount(proof.getId());
         return ProofHeartResponseDto.builder()
                 .proofId(proof.getId())
                 .heart(true)
-                .heartCnt(proof.getHeartList().size()).build();
+                .heartCnt(proof.getHeartCount() + 1).build();
       } else {
         Heart heart = heartRepository.findByProofAndMemberId(proof, loginUserId);
-        proof.removeHeart(heart);
         heartRepository.delete(heart);
+        proofRepository.decreaseHeartCount(proof.getId());
         return ProofHeartResponseDto.builder()
                 .proofId(proof.getId())
                 .heart(false)
-                .heartCnt(proof.getHeartList().size()).build();
+                .heartCnt(Math.max(proof.getHeartCount() - 1, 0)).build();
       }
     } catch (Exception e) {
       throw new IllegalArgumentException(ErrorCode.UNKNOWN_USER.getMsg());
@@ -237,37 +282,90 @@ public class ProofService {
     return proofRepository.findById(proofId).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_PROOF));
   }
 
-  private ProofResponseDto buildProofResponseDto(UserDetailsImpl userDetails, Proof proof) {
+  /**
+   * 작성자 프로필 이미지 / 인증글 이미지를 목록 전체에 대해 한번씩만 조회해서 조립 (인증글 수와 상관없이 쿼리 2번)
+   */
+  private List<ProofResponseDto> buildProofResponseDtos(UserDetailsImpl userDetails, List<Proof> proofList) {
+    if (proofList.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Set<Long> writerIds = new HashSet<>();
+    List<Long> proofIds = new ArrayList<>();
+    for (Proof proof : proofList) {
+      writerIds.add(proof.getMemberId());
+      proofIds.add(proof.getId());
+    }
 
-    String profileImage = "https://ssl.pstatic.net/static/pwe/address/img_profile.png"; // 회원탈퇴시 네이버 기본이미지로
-    Optional<Member> writer = memberRepository.findById(proof.getMemberId());
-    if(writer.isPresent()){
-      profileImage = writer.get().getProfileImage();
+    Map<Long, String> profileImageMap = new HashMap<>();
+    for (Member writer : memberRepository.findAllById(writerIds)) {
+      profileImageMap.put(writer.getId(), writer.getProfileImage());
+    }
+    Map<Long, List<Img>> imgMap = new HashMap<>();
+    for (Img img : imgRepository.findAllByProof_IdInOrderByIdAsc(proofIds)) {
+      imgMap.computeIfAbsent(img.getProof().getId(), id -> new ArrayList<>()).add(img);
     }
 
-    return ProofResponseDto.builder()
-            .proofId(proof.getId())
-            .creatAt(proof.getCreatedAt())
-            .nickname(proof.getNickname())
-            .profileImage(profileImage)
-            .title(proof.getTitle())
-            .content(proof.getContent())
-            .img(proof.getImgList())
-            .writer(userDetails != null && proof.getMemberId().equals(userDetails.getId()))
-            .build();
+    List<ProofResponseDto> proofResponseDtoList = new ArrayList<>();
+    for (Proof proof : proofList) {
+      proofResponseDtoList.add(ProofResponseDto.builder()
+              .proofId(proof.getId())
+              .creatAt(proof.getCreatedAt())
+              .nickname(proof.getNickname())
+              .profileImage(profileImageMap.getOrDefault(proof.getMemberId(), DEFAULT_PROFILE_IMAGE))
+              .title(proof.getTitle())
+              .content(proof.getContent())
+              .img(imgMap.getOrDefault(proof.getId(), new ArrayList<>()))
+              .writer(userDetails != null && proof.getMemberId().equals(userDetails.getId()))
+              .build());
+    }
+    return proofResponseDtoList;
   }
 
-  private void buildImgList(List<MultipartFile> multipartFile, Proof proof, List<Img> imgList) throws IOException {
-    for (MultipartFile file : multipartFile) {
-      if (multipartFile.size() < 6 && proof.getImgList().size() < 11) {
-        S3Dto upload = s3Uploader.upload(file);
-        Img findImage = Img.builder()
-                .imgUrl(upload.getUploadImageUrl())
+  /**
+   * 이미지 업로드는 병렬로 하고, 모두 끝난 뒤 요청 순서대로 인증글에 추가
+   * 지연 처리 모드면 원본만 스풀에 저장하고 임시 이미지로 추가 (스풀된 원본을 순서대로 리턴)
+   */
+  private List<SpooledImage> buildImgList(List<MultipartFile> multipartFile, Proof proof, List<Img> imgList) throws IOException {
+    // 한번에 5장, 인증글 하나에 최대 11장 (추가 후 기준)
+    if (multipartFile.size() > 5 || proof.getImgList().size() + multipartFile.size() > 11) {
+      throw new IllegalArgumentException(ErrorCode.EXCEED_IMG_CNT.getMsg());
+    }
+    List<SpooledImage> spooledImages = new ArrayList<>();
+    if (deferredImageService.isEnabled()) {
+      for (MultipartFile file : multipartFile) {
+        spooledImages.add(deferredImageService.spool(file));
+        Img placeholder = Img.builder()
+                .imgUrl(deferredImageService.getPlaceholderUrl())
+                .status(ImgStatus.PROCESSING)
+                .spoolKey(spooledImages.get(spooledImages.size() - 1).getKey())
                 .proof(proof)
                 .build();
-        proof.addImg(findImage);
-        imgList.add(findImage);
-      } else throw new IllegalArgumentException(ErrorCode.EXCEED_IMG_CNT.getMsg());
+        proof.addImg(placeholder);
+        imgList.add(placeholder);
+      }
+      return spooledImages;
+    }
+    for (S3Dto upload : imageUploadPipeline.await(imageUploadPipeline.uploadAll(multipartFile))) {
+      Img findImage = Img.builder()
+              .imgUrl(upload.getUploadImageUrl())
+              .feedUrl(upload.getFeedImageUrl())
+              .thumbnailUrl(upload.getThumbnailImageUrl())
+              .proof(proof)
+              .build();
+      proof.addImg(findImage);
+      imgList.add(findImage);
+    }
+    return spooledImages;
+  }
+
+  /**
+   * 저장 후 호출 - 임시 이미지는 인증글 이미지 목록의 마지막에 추가돼 있다
+   */
+  private void processSpooledImgs(Proof savedProof, List<SpooledImage> spooledImages, Long memberId) {
+    List<Img> imgs = savedProof.getImgList();
+    int offset = imgs.size() - spooledImages.size();
+    for (int i = 0; i < spooledImages.size(); i++) {
+      deferredImageService.process(ImageSpooledEvent.Target.IMG, imgs.get(offset + i).getId(), memberId, spooledImages.get(i));
     }
   }
 
@@ -1,35 +1,132 @@
 package sparta.seed.community.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 import sparta.seed.community.domain.Slang;
 import sparta.seed.community.repository.SlangRepository;
 import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
 import sparta.seed.util.RedisService;
+import sparta.seed.util.SlangMatcher;
+import sparta.seed.util.SlangNormalizer;
+import sparta.seed.util.SlangReport;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SlangService {
+	public static final String SLANG_REFRESH_CHANNEL = "slang-refresh";
+	//필드 구분자 - 사전 단어에 없는 문자라 필드를 넘어가는 매칭이 생기지 않는다
+	private static final char FIELD_SEPARATOR = '\u0000';
+
 	private final SlangRepository slangRepository;
 	private final RedisService redisService;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	//서버 시작 시 사전 로딩 재시도 횟수 / 간격 - 모두 실패하면 기동 실패
+	private static final int INIT_ATTEMPTS = 5;
+	private static final long INIT_RETRY_MILLIS = 2000;
+
+	//사전이 바뀌면 통째로 교체 (조회 시 레디스를 거치지 않음), 한번도 로딩되지 않았으면 null
+	private volatile SlangMatcher slangMatcher;
+
+	/**
+	 * 사전 없이 뜨면 모든 글이 필터를 통과하므로 로딩될 때까지 재시도하고, 끝내 실패하면 기동을 멈춘다
+	 */
+	@PostConstruct
+	public void init() throws InterruptedException {
+		redisMessageListenerContainer.addMessageListener((message, pattern) -> reloadSlang(), new ChannelTopic(SLANG_REFRESH_CHANNEL));
+		for (int attempt = 1; !reloadSlang(); attempt++) {
+			if (attempt == INIT_ATTEMPTS) {
+				throw new IllegalStateException("비속어 사전 로딩 실패 - 서버를 시작할 수 없습니다.");
+			}
+			Thread.sleep(INIT_RETRY_MILLIS * attempt);
+		}
+	}
 
 	public void addSlang(){
 		List<Slang> slangList = slangRepository.findAll();
 		for(Slang slang : slangList){
 			redisService.addSlang(slang.getContent());
 		}
+		reloadSlang();
+		redisService.publish(SLANG_REFRESH_CHANNEL, "reload");
+	}
+
+	/**
+	 * DB + 레디스 비속어 사전으로 오토마톤을 다시 만든다 (다른 서버는 pub/sub으로 호출됨)
+	 * 실패하면 이전 사전을 그대로 쓴다
+	 */
+	public boolean reloadSlang() {
+		try {
+			Set<String> dictionary = new HashSet<>();
+			for (String slang : redisService.getSlangSet()) {
+				dictionary.add(SlangNormalizer.normalize(slang));
+			}
+			for (Slang slang : slangRepository.findAll()) {
+				dictionary.add(SlangNormalizer.normalize(slang.getContent()));
+			}
+			slangMatcher = SlangMatcher.of(dictionary);
+			log.info("비속어 사전 로딩 완료 : {}개", slangMatcher.size());
+			return true;
+		} catch (Exception e) {
+			log.error("비속어 사전 로딩 실패 : {}", e.getMessage());
+			return false;
+		}
 	}
 
 	public void checkSlang(String word){
-		Set<String> slangList = redisService.getSlangSet();
-		for (String slang : slangList) {
-			if(word.contains(slang)){
-				throw new CustomException(ErrorCode.DISCOVER_SLANG);
+		checkAll(word);
+	}
+
+	/**
+	 * 요청의 모든 필드를 한번에 검사 - 하나라도 걸리면 예외
+	 */
+	public void checkAll(String... fields) {
+		SlangReport report = scanAll(fields);
+		if (!report.isClean()) {
+			log.info("비속어 발견 : {}개 ({}us)", report.getOffenses().size(), report.getElapsedNanos() / 1000);
+			throw new CustomException(ErrorCode.DISCOVER_SLANG);
+		}
+	}
+
+	/**
+	 * 모든 필드를 정규화 후 이어붙여서 한번만 훑고, 발견된 비속어를 필드별로 돌려준다
+	 */
+	public SlangReport scanAll(String... fields) {
+		SlangMatcher matcher = slangMatcher;
+		if (matcher == null) {
+			throw new CustomException(ErrorCode.SLANG_NOT_READY);
+		}
+		long start = System.nanoTime();
+		int[] fieldStart = new int[fields.length];
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				text.append(FIELD_SEPARATOR);
+			}
+			fieldStart[i] = text.length();
+			text.append(SlangNormalizer.normalize(fields[i]));
+		}
+
+		List<SlangReport.Offense> offenses = new ArrayList<>();
+		int field = 0;
+		for (SlangMatcher.Match match : matcher.scan(text.toString())) {
+			while (field + 1 < fields.length && fieldStart[field + 1] <= match.getStart()) {
+				field++;
 			}
+			offenses.add(new SlangReport.Offense(field, match.getWord(),
+					match.getStart() - fieldStart[field], match.getEnd() - fieldStart[field]));
 		}
+		return new SlangReport(offenses, System.nanoTime() - start);
 	}
 }
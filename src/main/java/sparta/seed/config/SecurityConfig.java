@@ -75,6 +75,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.GET,"/api/community/**").permitAll()
                 .antMatchers(HttpMethod.GET,"/api/proof/**").permitAll()
                 .antMatchers(HttpMethod.GET,"/api/comments/**").permitAll()
+                // 헬스체크만 열어두고 나머지 actuator(지표 등)는 관리자만
+                .antMatchers(HttpMethod.GET,"/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasRole("ADMIN")
                 //CORS관련
                 .anyRequest().authenticated()   // 나머지 API 는 전부 인증 필요
                 // JwtFilter 를 addFilterBefore 로 등록했던 JwtSecurityConfig 클래스를 적용
@@ -54,11 +54,16 @@ public enum ErrorCode {
      */
     NOT_FOUND_MISSION(HttpStatus.BAD_REQUEST, "400", "오늘의 미션에서 찾을 수 없습니다."),
     ALREADY_DONE_MISSION(HttpStatus.BAD_REQUEST, "400", "이미 완료된 미션입니다."),
+    MISSION_CONFLICT(HttpStatus.CONFLICT, "409", "요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_BATCH_SIZE(HttpStatus.BAD_REQUEST, "400", "batchSize는 1 ~ 10000 사이여야 합니다."),
+    INVALID_STAT_DATE(HttpStatus.BAD_REQUEST, "400", "조회 기간은 yyyy-MM-dd 형식이어야 합니다."),
+    STAT_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "400", "조회 기간은 최대 1년입니다."),
 
     /**
      * 비속어 필터
      */
-    DISCOVER_SLANG(HttpStatus.BAD_REQUEST, "400", "비속어가 발견되었습니다.");
+    DISCOVER_SLANG(HttpStatus.BAD_REQUEST, "400", "비속어가 발견되었습니다."),
+    SLANG_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "503", "비속어 사전을 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
 
 
 
@@ -0,0 +1,44 @@
+package sparta.seed.img.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sparta.seed.s3.S3Dto;
+import sparta.seed.util.BaseEntity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * S3에 올라간 이미지 (원본 해시 -> 주소) - 같은 이미지를 다시 올리면 업로드 없이 재사용
+ * 행은 ImageObjectRepository.insertIfAbsent로만 만든다 (동시 등록 시 유니크 키로 하나만 남김)
+ * refCount가 0이 되고 일정 시간이 지나면 S3 객체와 같이 삭제
+ */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_image_object_hash", columnNames = "contentHash"),
+        indexes = @Index(name = "idx_image_object_img_url", columnList = "imgUrl"))
+@NoArgsConstructor
+@Getter
+public class ImageObject extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  //업로드 원본의 SHA-256 (hex)
+  @Column(nullable = false, length = 64)
+  private String contentHash;
+  //S3 키 (피드 / 썸네일은 w960/, w320/ + 키)
+  @Column(nullable = false)
+  private String fileName;
+  @Column(nullable = false)
+  private String imgUrl;
+  private String feedUrl;
+  private String thumbnailUrl;
+  //이 이미지를 쓰고 있는 인증글 이미지 / 댓글 / 캠페인 / 프로필 수
+  private int refCount;
+  //refCount가 마지막으로 줄어든 시각
+  private LocalDateTime releasedAt;
+
+  public S3Dto toS3Dto() {
+    return new S3Dto(fileName, imgUrl, feedUrl, thumbnailUrl);
+  }
+}
@@ -10,6 +10,7 @@ import sparta.seed.util.BaseEntity;
 import javax.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_img_status", columnList = "status"))
 @NoArgsConstructor
 @Getter
 public class Img extends BaseEntity {
@@ -19,6 +20,15 @@ public class Img extends BaseEntity {
   private Long id;
   @Column(nullable = false)
   private String imgUrl;
+  //피드용 (960px), 이전 이미지는 null
+  private String feedUrl;
+  //썸네일 (320px), 이전 이미지는 null
+  private String thumbnailUrl;
+  //이전 이미지는 null (= READY)
+  @Enumerated(EnumType.STRING)
+  private ImgStatus status;
+  //지연 처리 중인 원본 스풀 파일 이름 (처리가 끝나면 null)
+  private String spoolKey;
 
   @ManyToOne(fetch = FetchType.LAZY,cascade = CascadeType.PERSIST)
   @JsonBackReference
@@ -26,9 +36,13 @@ public class Img extends BaseEntity {
   private Proof proof;
 
   @Builder
-  public Img(Long id, String imgUrl, Proof proof) {
+  public Img(Long id, String imgUrl, String feedUrl, String thumbnailUrl, ImgStatus status, String spoolKey, Proof proof) {
     this.id = id;
     this.imgUrl = imgUrl;
+    this.feedUrl = feedUrl;
+    this.thumbnailUrl = thumbnailUrl;
+    this.status = status != null ? status : ImgStatus.READY;
+    this.spoolKey = spoolKey;
     this.proof = proof;
   }
 }
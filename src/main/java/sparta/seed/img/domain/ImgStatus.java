@@ -0,0 +1,8 @@
+package sparta.seed.img.domain;
+
+/**
+ * 이미지 처리 상태 - 지연 처리 모드에서는 PROCESSING(임시 이미지)으로 저장 후 업로드가 끝나면 READY
+ */
+public enum ImgStatus {
+  PROCESSING, READY, FAILED
+}
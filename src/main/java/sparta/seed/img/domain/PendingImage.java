@@ -0,0 +1,19 @@
+package sparta.seed.img.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지연 처리가 끝나지 않은 이미지 (Img / Comment 공통 조회용)
+ */
+public interface PendingImage {
+  //Img 또는 Comment의 PK
+  Long getId();
+
+  //스풀 파일 이름 (작업 식별자)
+  String getSpoolKey();
+
+  //알림 받을 유저
+  Long getMemberId();
+
+  LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,32 @@
+package sparta.seed.img.domain;
+
+import lombok.Getter;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+
+import java.nio.file.Path;
+
+/**
+ * 스풀 디렉토리에 저장된 원본 업로드
+ */
+@Getter
+public class SpooledImage {
+  private final Path path;
+  private final String originalFilename;
+  private final String contentType;
+
+  public SpooledImage(Path path, String originalFilename, String contentType) {
+    this.path = path;
+    this.originalFilename = originalFilename;
+    this.contentType = contentType;
+  }
+
+  //스풀 파일 이름 = 작업 식별자 (Img / Comment의 spoolKey)
+  public String getKey() {
+    return path.getFileName().toString();
+  }
+
+  public InputStreamSource toSource() {
+    return new FileSystemResource(path);
+  }
+}
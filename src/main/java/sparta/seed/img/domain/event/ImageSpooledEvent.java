@@ -0,0 +1,28 @@
+package sparta.seed.img.domain.event;
+
+import lombok.Getter;
+import sparta.seed.img.domain.SpooledImage;
+
+/**
+ * 지연 처리할 이미지가 저장됐을때 발행 - 커밋 후 업로드 스레드풀에서 처리
+ */
+@Getter
+public class ImageSpooledEvent {
+  public enum Target {
+    IMG, COMMENT
+  }
+
+  private final Target target;
+  //Img 또는 Comment의 PK
+  private final Long targetId;
+  //알림 받을 유저
+  private final Long memberId;
+  private final SpooledImage image;
+
+  public ImageSpooledEvent(Target target, Long targetId, Long memberId, SpooledImage image) {
+    this.target = target;
+    this.targetId = targetId;
+    this.memberId = memberId;
+    this.image = image;
+  }
+}
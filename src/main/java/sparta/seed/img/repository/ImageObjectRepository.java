@@ -0,0 +1,66 @@
+package sparta.seed.img.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sparta.seed.img.domain.ImageObject;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+  Optional<ImageObject> findByContentHash(String contentHash);
+
+  /**
+   * 새로 올린 이미지 등록 (refCount 1) - 같은 해시가 이미 있으면 0
+   * 요청 트랜잭션과 별개로 커밋해서 중복 키 충돌이 요청 트랜잭션을 깨지 않게 한다
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query(value = "insert ignore into image_object (content_hash, file_name, img_url, feed_url, thumbnail_url, ref_count, created_at, modified_at) " +
+          "values (:contentHash, :fileName, :imgUrl, :feedUrl, :thumbnailUrl, 1, now(), now())", nativeQuery = true)
+  int insertIfAbsent(@Param("contentHash") String contentHash, @Param("fileName") String fileName, @Param("imgUrl") String imgUrl,
+                     @Param("feedUrl") String feedUrl, @Param("thumbnailUrl") String thumbnailUrl);
+
+  /**
+   * 재사용 - 정리돼서 없으면 0
+   * 없는 해시를 찾는 update는 갭 락을 잡으므로 요청 트랜잭션과 별개로 바로 커밋한다 (이어지는 insertIfAbsent와 교착 방지)
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("update ImageObject o set o.refCount = o.refCount + 1 where o.contentHash = :contentHash")
+  int increaseRefCount(@Param("contentHash") String contentHash);
+
+  /**
+   * 이미지를 더이상 쓰지 않을때 - 인덱스에 없는 주소(기본 이미지, 이전 업로드)는 0
+   * 커밋 후 호출되므로 항상 새 트랜잭션
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("update ImageObject o set o.refCount = o.refCount - 1, o.releasedAt = :now where o.imgUrl = :imgUrl and o.refCount > 0")
+  int releaseByImgUrl(@Param("imgUrl") String imgUrl, @Param("now") LocalDateTime now);
+
+  /**
+   * 재사용 / 등록한 요청이 롤백됐을때 되돌리기 - 롤백 후 호출되므로 항상 새 트랜잭션
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("update ImageObject o set o.refCount = o.refCount - 1, o.releasedAt = :now where o.contentHash = :contentHash and o.refCount > 0")
+  int releaseByContentHash(@Param("contentHash") String contentHash, @Param("now") LocalDateTime now);
+
+  //정리 대상 - refCount 0 + releasedAt 이전
+  List<ImageObject> findTop100ByRefCountAndReleasedAtBefore(int refCount, LocalDateTime releasedAt);
+
+  /**
+   * 그 사이 다시 쓰이지 않았을 때만 삭제
+   */
+  @Transactional
+  @Modifying
+  @Query("delete from ImageObject o where o.id = :id and o.refCount = 0")
+  int deleteOrphan(@Param("id") Long id);
+}
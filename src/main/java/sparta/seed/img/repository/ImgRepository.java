@@ -2,9 +2,41 @@ package sparta.seed.img.repository;
 
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 import sparta.seed.img.domain.Img;
+import sparta.seed.img.domain.PendingImage;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface
 ImgRepository extends JpaRepository<Img,Long> {
 
+  //인증글 목록의 이미지를 한번에 조회
+  List<Img> findAllByProof_IdInOrderByIdAsc(Collection<Long> proofIds);
+
+  /**
+   * 지연 처리 완료 - 처리 중인 이미지만 바꾸므로 그 사이 삭제됐으면 0
+   * 커밋 후 / 업로드 스레드에서 호출되므로 항상 새 트랜잭션
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("update Img i set i.imgUrl = :imgUrl, i.feedUrl = :feedUrl, i.thumbnailUrl = :thumbnailUrl, i.status = sparta.seed.img.domain.ImgStatus.READY, i.spoolKey = null " +
+          "where i.id = :id and i.status = sparta.seed.img.domain.ImgStatus.PROCESSING")
+  int completeProcessing(@Param("id") Long id, @Param("imgUrl") String imgUrl,
+                         @Param("feedUrl") String feedUrl, @Param("thumbnailUrl") String thumbnailUrl);
+
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query("update Img i set i.status = sparta.seed.img.domain.ImgStatus.FAILED, i.spoolKey = null where i.id = :id and i.status = sparta.seed.img.domain.ImgStatus.PROCESSING")
+  int failProcessing(@Param("id") Long id);
+
+  //지연 처리 중인 이미지 (재시도 / 스풀 정리용)
+  @Query("select i.id as id, i.spoolKey as spoolKey, p.memberId as memberId, i.modifiedAt as modifiedAt " +
+          "from Img i join i.proof p where i.status = sparta.seed.img.domain.ImgStatus.PROCESSING")
+  List<PendingImage> findPendingImages();
 }
@@ -0,0 +1,265 @@
+package sparta.seed.img.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+import sparta.seed.community.repository.CommentRepository;
+import sparta.seed.img.domain.ImgStatus;
+import sparta.seed.img.domain.PendingImage;
+import sparta.seed.img.domain.SpooledImage;
+import sparta.seed.img.domain.event.ImageSpooledEvent;
+import sparta.seed.img.repository.ImgRepository;
+import sparta.seed.s3.ImageUploadPipeline;
+import sparta.seed.s3.S3Dto;
+import sparta.seed.sse.NotificationService;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 이미지 지연 처리 (image-upload.deferred=true)
+ * 요청 스레드는 원본을 스풀 디렉토리에 저장하고 임시 이미지로 바로 응답,
+ * 커밋 후 업로드 스레드풀에서 리사이즈 + S3 업로드 -> 최종 주소로 교체하고 SSE(imageProcessed)로 알린다
+ * 작업은 메모리에만 있으므로 재시작 / 큐 거절로 빠진 작업은 정리 스케줄러가 스풀 파일로 다시 넣는다
+ */
+@Slf4j
+@Service
+public class DeferredImageService {
+  //이 시간보다 오래된 스풀 파일은 롤백 등으로 처리되지 못한 파일로 보고 삭제 (처리 중인 행이 없을때만)
+  private static final Duration SPOOL_RETENTION = Duration.ofHours(6);
+  //처리 중으로 이 시간이 지난 행은 빠진 작업으로 보고 다시 넣는다
+  private static final Duration RECOVER_AFTER = Duration.ofMinutes(5);
+  //원본 파일 이름 / 타입을 적어두는 스풀 메타 파일
+  private static final String META_SUFFIX = ".meta";
+
+  private final ImageUploadPipeline imageUploadPipeline;
+  private final ImgRepository imgRepository;
+  private final ImageIndex imageIndex;
+  private final CommentRepository commentRepository;
+  private final NotificationService notificationService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+  private final Path spoolDir;
+  private final String placeholderUrl;
+  //이 서버에서 처리 중인 작업 (spoolKey)
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+  public DeferredImageService(ImageUploadPipeline imageUploadPipeline,
+                              ImgRepository imgRepository,
+                              ImageIndex imageIndex,
+                              CommentRepository commentRepository,
+                              NotificationService notificationService,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${image-upload.deferred:false}") boolean enabled,
+                              @Value("${image-upload.spool-dir:${java.io.tmpdir}/usearth-spool}") String spoolDir,
+                              @Value("${image-upload.placeholder-url}") String placeholderUrl) {
+    this.imageUploadPipeline = imageUploadPipeline;
+    this.imgRepository = imgRepository;
+    this.imageIndex = imageIndex;
+    this.commentRepository = commentRepository;
+    this.notificationService = notificationService;
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.spoolDir = Paths.get(spoolDir);
+    this.placeholderUrl = placeholderUrl;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public String getPlaceholderUrl() {
+    return placeholderUrl;
+  }
+
+  /**
+   * 원본을 스풀 디렉토리에 저장 (요청이 끝나면 MultipartFile 임시 파일은 지워지므로)
+   * 재시작 후 다시 처리할 수 있도록 원본 파일 이름 / 타입은 메타 파일에 따로 저장
+   */
+  public SpooledImage spool(MultipartFile multipartFile) throws IOException {
+    Files.createDirectories(spoolDir);
+    Path path = spoolDir.resolve(UUID.randomUUID().toString());
+    multipartFile.transferTo(path);
+    Properties meta = new Properties();
+    meta.setProperty("originalFilename", String.valueOf(multipartFile.getOriginalFilename()));
+    meta.setProperty("contentType", String.valueOf(multipartFile.getContentType()));
+    try (Writer writer = Files.newBufferedWriter(metaPath(path), StandardCharsets.UTF_8)) {
+      meta.store(writer, null);
+    }
+    return new SpooledImage(path, multipartFile.getOriginalFilename(), multipartFile.getContentType());
+  }
+
+  /**
+   * 임시 이미지로 저장한 뒤 호출 - 트랜잭션 안이면 커밋 후 처리
+   */
+  public void process(ImageSpooledEvent.Target target, Long targetId, Long memberId, SpooledImage image) {
+    eventPublisher.publishEvent(new ImageSpooledEvent(target, targetId, memberId, image));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onImageSpooled(ImageSpooledEvent event) {
+    submit(event);
+  }
+
+  /**
+   * 처리 중으로 남은 행 다시 처리 - 스풀 파일이 있으면 다시 넣고, 없으면서 오래됐으면 실패 처리 (스케줄러 / 시작 시 연동)
+   * 스풀 디렉토리는 서버마다 따로라서 파일이 없는 행은 다른 서버 작업일 수 있으므로 SPOOL_RETENTION 이 지나야 실패 처리
+   */
+  public void recoverPending() {
+    LocalDateTime now = LocalDateTime.now();
+    recoverPending(ImageSpooledEvent.Target.IMG, imgRepository.findPendingImages(), now);
+    recoverPending(ImageSpooledEvent.Target.COMMENT, commentRepository.findPendingImages(), now);
+  }
+
+  /**
+   * 처리되지 못하고 남은 스풀 파일 정리 (스케줄러 연동) - 처리 중인 행이 가리키는 파일은 남겨둔다
+   */
+  public void cleanUpSpool() {
+    if (!Files.isDirectory(spoolDir)) {
+      return;
+    }
+    Set<String> pendingKeys = new HashSet<>(inFlight);
+    imgRepository.findPendingImages().forEach(pending -> pendingKeys.add(pending.getSpoolKey()));
+    commentRepository.findPendingImages().forEach(pending -> pendingKeys.add(pending.getSpoolKey()));
+    Instant expiredAt = Instant.now().minus(SPOOL_RETENTION);
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir)) {
+      for (Path file : files) {
+        String key = file.getFileName().toString();
+        if (key.endsWith(META_SUFFIX)) {
+          key = key.substring(0, key.length() - META_SUFFIX.length());
+        }
+        if (!pendingKeys.contains(key) && Files.getLastModifiedTime(file).toInstant().isBefore(expiredAt)) {
+          delete(file);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("스풀 디렉토리 정리 실패 : {}", e.getMessage());
+    }
+  }
+
+  private void submit(ImageSpooledEvent event) {
+    SpooledImage image = event.getImage();
+    if (!inFlight.add(image.getKey())) {
+      return;
+    }
+    try {
+      imageUploadPipeline.uploadDeferred(image.getOriginalFilename(), image.getContentType(), image.toSource())
+              .whenComplete((upload, e) -> {
+                try {
+                  if (e == null) {
+                    complete(event, upload);
+                  } else {
+                    fail(event.getTarget(), event.getTargetId(), event.getMemberId(), image.getKey(), e.getMessage());
+                  }
+                  deleteSpool(image.getPath());
+                } catch (RuntimeException ex) {
+                  log.error("이미지 지연 처리 결과 저장 실패 : {} {}", event.getTarget(), event.getTargetId(), ex);
+                } finally {
+                  inFlight.remove(image.getKey());
+                }
+              });
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(image.getKey());
+      log.warn("이미지 지연 처리 큐가 가득 참 - 정리 스케줄러에서 다시 처리 : {} {}", event.getTarget(), event.getTargetId());
+    }
+  }
+
+  private void recoverPending(ImageSpooledEvent.Target target, List<PendingImage> pendingImages, LocalDateTime now) {
+    for (PendingImage pending : pendingImages) {
+      if (pending.getModifiedAt() != null && pending.getModifiedAt().isAfter(now.minus(RECOVER_AFTER))) {
+        continue;
+      }
+      if (pending.getSpoolKey() != null && inFlight.contains(pending.getSpoolKey())) {
+        continue;
+      }
+      SpooledImage image = load(pending.getSpoolKey());
+      if (image != null) {
+        log.info("이미지 지연 처리 다시 시도 : {} {}", target, pending.getId());
+        submit(new ImageSpooledEvent(target, pending.getId(), pending.getMemberId(), image));
+      } else if (pending.getModifiedAt() == null || pending.getModifiedAt().isBefore(now.minus(SPOOL_RETENTION))) {
+        fail(target, pending.getId(), pending.getMemberId(), pending.getSpoolKey(), "스풀 파일 없음");
+      }
+    }
+  }
+
+  /**
+   * 스풀 파일 + 메타 파일이 모두 있을때만 다시 처리할 수 있다
+   */
+  private SpooledImage load(String key) {
+    if (key == null) {
+      return null;
+    }
+    Path path = spoolDir.resolve(key);
+    if (!Files.isRegularFile(path) || !Files.isRegularFile(metaPath(path))) {
+      return null;
+    }
+    Properties meta = new Properties();
+    try (Reader reader = Files.newBufferedReader(metaPath(path), StandardCharsets.UTF_8)) {
+      meta.load(reader);
+    } catch (IOException e) {
+      log.warn("스풀 메타 파일 읽기 실패 : {}", path);
+      return null;
+    }
+    return new SpooledImage(path, meta.getProperty("originalFilename"), meta.getProperty("contentType"));
+  }
+
+  private void complete(ImageSpooledEvent event, S3Dto upload) {
+    int updated = event.getTarget() == ImageSpooledEvent.Target.IMG
+            ? imgRepository.completeProcessing(event.getTargetId(), upload.getUploadImageUrl(), upload.getFeedImageUrl(), upload.getThumbnailImageUrl())
+            : commentRepository.replaceImg(event.getTargetId(), event.getImage().getKey(), upload.getUploadImageUrl());
+    if (updated == 0) {
+      log.info("이미지 지연 처리 중 삭제 / 변경됨 : {} {}", event.getTarget(), event.getTargetId());
+      imageIndex.release(upload.getUploadImageUrl());
+      return;
+    }
+    notificationService.notifyImageProcessed(event.getMemberId(), event.getTarget().name(), event.getTargetId(),
+            ImgStatus.READY.name(), upload.getUploadImageUrl());
+  }
+
+  private void fail(ImageSpooledEvent.Target target, Long targetId, Long memberId, String spoolKey, String reason) {
+    log.warn("이미지 지연 처리 실패 : {} {} - {}", target, targetId, reason);
+    int updated = target == ImageSpooledEvent.Target.IMG
+            ? imgRepository.failProcessing(targetId)
+            : commentRepository.replaceImg(targetId, spoolKey, null);
+    if (updated == 0) {
+      return;
+    }
+    notificationService.notifyImageProcessed(memberId, target.name(), targetId, ImgStatus.FAILED.name(), null);
+  }
+
+  private void deleteSpool(Path path) {
+    delete(path);
+    delete(metaPath(path));
+  }
+
+  private Path metaPath(Path path) {
+    return path.resolveSibling(path.getFileName() + META_SUFFIX);
+  }
+
+  private void delete(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("스풀 파일 삭제 실패 : {}", path);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package sparta.seed.img.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sparta.seed.img.domain.ImageObject;
+import sparta.seed.img.repository.ImageObjectRepository;
+import sparta.seed.s3.S3Dto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 업로드 이미지 중복 제거 인덱스 (원본 SHA-256 -> S3 주소) - 서버 메모리(Caffeine) -> DB(ImageObject)
+ * 사용할 때마다 refCount를 올리고(DB가 기준, 메모리 캐시는 조회만 줄인다), 안 쓰게 되면 release로 내린다
+ * refCount가 0인 채로 orphan-retention-hours가 지나면 removeOrphans로 정리
+ * refCount 변경은 요청 트랜잭션과 별개로 바로 커밋 - 요청이 롤백되면 올린 refCount를 되돌리고, release는 커밋 후 반영
+ */
+@Service
+public class ImageIndex {
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final ImageObjectRepository imageObjectRepository;
+  private final Cache<String, S3Dto> localCache;
+  private final Duration orphanRetention;
+  private final Counter hit;
+  private final Counter miss;
+
+  public ImageIndex(ImageObjectRepository imageObjectRepository,
+                    MeterRegistry meterRegistry,
+                    @Value("${image-upload.dedup.local-max-size:10000}") long localMaxSize,
+                    @Value("${image-upload.dedup.orphan-retention-hours:24}") long orphanRetentionHours) {
+    this.imageObjectRepository = imageObjectRepository;
+    this.localCache = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .build();
+    this.orphanRetention = Duration.ofHours(orphanRetentionHours);
+    this.hit = meterRegistry.counter("image.dedup", "result", "hit");
+    this.miss = meterRegistry.counter("image.dedup", "result", "miss");
+  }
+
+  /**
+   * 원본을 스트림으로 읽으면서 SHA-256 계산 (전체를 메모리에 올리지 않음)
+   */
+  public String hash(InputStreamSource source) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] buffer = new byte[8192];
+    try (InputStream inputStream = source.getInputStream()) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    byte[] bytes = digest.digest();
+    char[] hex = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      hex[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+      hex[i * 2 + 1] = HEX[bytes[i] & 0xf];
+    }
+    return new String(hex);
+  }
+
+  /**
+   * 이미 올라간 이미지면 refCount를 올리고 주소를 돌려준다, 없으면 null
+   */
+  public S3Dto acquire(String contentHash) {
+    if (imageObjectRepository.increaseRefCount(contentHash) == 0) {
+      localCache.invalidate(contentHash);
+      miss.increment();
+      return null;
+    }
+    hit.increment();
+    releaseOnRollback(contentHash);
+    S3Dto cached = localCache.getIfPresent(contentHash);
+    if (cached != null) {
+      return cached;
+    }
+    S3Dto indexed = imageObjectRepository.findByContentHash(contentHash)
+            .map(ImageObject::toS3Dto)
+            .orElse(null);
+    if (indexed != null) {
+      localCache.put(contentHash, indexed);
+    }
+    return indexed;
+  }
+
+  /**
+   * 새로 올린 이미지 등록 (refCount 1)
+   * 다른 요청이 같은 이미지를 먼저 등록했으면 그 주소를 돌려준다 -> 호출한 쪽에서 방금 올린 객체를 지운다
+   */
+  public S3Dto register(String contentHash, S3Dto uploaded) {
+    if (imageObjectRepository.insertIfAbsent(contentHash, uploaded.getFileName(), uploaded.getUploadImageUrl(),
+            uploaded.getFeedImageUrl(), uploaded.getThumbnailImageUrl()) == 1) {
+      localCache.put(contentHash, uploaded);
+      releaseOnRollback(contentHash);
+      return uploaded;
+    }
+    S3Dto indexed = acquire(contentHash);
+    return indexed != null ? indexed : uploaded;
+  }
+
+  /**
+   * 이미지를 더이상 쓰지 않을때 (인증글 이미지 / 댓글 / 캠페인 이미지 삭제, 교체) - 트랜잭션 안에서 호출되면 커밋 후 반영
+   */
+  public void release(String imgUrl) {
+    if (imgUrl == null) {
+      return;
+    }
+    Runnable release = () -> imageObjectRepository.releaseByImgUrl(imgUrl, LocalDateTime.now());
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      release.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        release.run();
+      }
+    });
+  }
+
+  /**
+   * 정리 대상을 최대 100개씩 인덱스에서 지우고 돌려준다 - S3 객체 삭제는 호출한 쪽에서 (빈 목록이 나올때까지 반복)
+   */
+  public List<S3Dto> removeOrphans() {
+    List<S3Dto> removed = new ArrayList<>();
+    for (ImageObject orphan : imageObjectRepository.findTop100ByRefCountAndReleasedAtBefore(0, LocalDateTime.now().minus(orphanRetention))) {
+      if (imageObjectRepository.deleteOrphan(orphan.getId()) == 1) {
+        localCache.invalidate(orphan.getContentHash());
+        removed.add(orphan.toS3Dto());
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * 올린 refCount는 바로 커밋되므로, 요청 트랜잭션이 롤백되면 되돌린다
+   */
+  private void releaseOnRollback(String contentHash) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_ROLLED_BACK) {
+          imageObjectRepository.releaseByContentHash(contentHash, LocalDateTime.now());
+        }
+      }
+    });
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
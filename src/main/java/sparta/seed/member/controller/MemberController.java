@@ -73,6 +73,14 @@ public class MemberController {
     return memberService.getDailyMissionStats(condition, userDetails);
   }
 
+  /**
+   * 미션 통계 - 주 단위
+   */
+  @GetMapping("/api/mypage/stats/week")
+  public List<Long> getWeekMissionStats(MissionSearchCondition condition, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    return memberService.getWeekMissionStats(condition, userDetails);
+  }
+
   /**
    * 일일 미션 달성 현황 확인
    */
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 import sparta.seed.member.domain.dto.requestdto.NicknameRequestDto;
 import sparta.seed.util.BaseEntity;
 
@@ -15,6 +16,7 @@ import java.util.Map;
 @Entity
 @Getter
 @NoArgsConstructor
+@DynamicUpdate
 public class Member extends BaseEntity {
 
   @Id
@@ -39,6 +41,9 @@ public class Member extends BaseEntity {
   private boolean isSecret;
   private int exp;
   private int level;
+  //완료한 미션 수 (ClearMission 개수)
+  @ColumnDefault("0")
+  private int totalClear;
   @ElementCollection
   private Map<String,Boolean> dailyMission = new HashMap<>(6,1);
 
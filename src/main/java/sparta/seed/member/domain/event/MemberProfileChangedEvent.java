@@ -0,0 +1,15 @@
+package sparta.seed.member.domain.event;
+
+import lombok.Getter;
+
+/**
+ * 프로필(닉네임, 이미지, 공개여부, 레벨/경험치, 탈퇴)이 바뀌었을때 발행 - 프로필 캐시 무효화용
+ */
+@Getter
+public class MemberProfileChangedEvent {
+  private final Long memberId;
+
+  public MemberProfileChangedEvent(Long memberId) {
+    this.memberId = memberId;
+  }
+}
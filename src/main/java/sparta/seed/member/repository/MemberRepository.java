@@ -1,6 +1,10 @@
 package sparta.seed.member.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import sparta.seed.member.domain.Member;
 
 import java.util.Optional;
@@ -12,4 +16,75 @@ public interface MemberRepository extends JpaRepository<Member,Long> ,MemberRepo
   Optional<Member> findBySocialId(String id);
   Boolean existsByNickname(String nickname);
 
+  @Query("select max(m.id) from Member m")
+  Long findMaxId();
+
+  /**
+   * 일일미션 초기화 - member_id 구간 단위로 나눠서 지운다 (구간마다 별도 트랜잭션)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "delete from member_daily_mission where member_id between :fromId and :toId", nativeQuery = true)
+  int deleteDailyMissionBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+  @Transactional
+  @Modifying
+  @Query(value = "delete from member_daily_mission", nativeQuery = true)
+  int deleteAllDailyMission();
+
+  /**
+   * 미완료인 일일미션만 완료로 변경 - 영향받은 행 수 리턴 (0이면 이미 완료 or 없음)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "update member_daily_mission set daily_mission = true " +
+          "where member_id = :memberId and daily_mission_key = :mission and daily_mission = false", nativeQuery = true)
+  int completeDailyMission(@Param("memberId") Long memberId, @Param("mission") String mission);
+
+  /**
+   * 완료된 일일미션을 미완료로 되돌림 (완료 처리 실패 시 보상)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "update member_daily_mission set daily_mission = false " +
+          "where member_id = :memberId and daily_mission_key = :mission and daily_mission = true", nativeQuery = true)
+  int revertDailyMission(@Param("memberId") Long memberId, @Param("mission") String mission);
+
+  //native count(*)는 숫자로 오므로 boolean 대신 건수를 돌려준다
+  @Query(value = "select count(*) from member_daily_mission where member_id = :memberId and daily_mission_key = :mission", nativeQuery = true)
+  long countDailyMission(@Param("memberId") Long memberId, @Param("mission") String mission);
+
+  /**
+   * 완료 수 보정 - ClearMission 기준으로 다시 계산 (도입 시 / 보정용)
+   */
+  @Transactional
+  @Modifying
+  @Query("update Member m set m.totalClear = (select count(c) from ClearMission c where c.memberId = m.id)")
+  int syncTotalClear();
+
+  /**
+   * 영속성 컨텍스트를 거치지 않고 현재 레벨 / 경험치 조회
+   */
+  @Query("select m.level as level, m.exp as exp, m.totalClear as totalClear from Member m where m.id = :memberId")
+  Optional<LevelExp> findLevelExpById(@Param("memberId") Long memberId);
+
+  /**
+   * 미션 완료 반영 - 레벨 / 경험치 compare-and-set + 완료 수 +1
+   * 읽은 값 그대로일때만 변경 (0이면 다시 읽어서 재시도)
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("update Member m set m.level = :level, m.exp = :exp, m.totalClear = m.totalClear + 1 " +
+          "where m.id = :memberId and m.level = :oldLevel and m.exp = :oldExp")
+  int updateMissionClear(@Param("memberId") Long memberId, @Param("oldLevel") int oldLevel, @Param("oldExp") int oldExp,
+                     @Param("level") int level, @Param("exp") int exp);
+
+  interface LevelExp {
+    int getLevel();
+
+    int getExp();
+
+    int getTotalClear();
+  }
+
 }
@@ -0,0 +1,139 @@
+package sparta.seed.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import sparta.seed.member.domain.LoginType;
+import sparta.seed.member.domain.dto.responsedto.UserInfoResponseDto;
+import sparta.seed.member.domain.event.MemberProfileChangedEvent;
+import sparta.seed.util.RedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 유저 프로필(UserInfoResponseDto) 2단 캐시 - 서버 메모리(Caffeine) -> 레디스 -> DB
+ * 프로필이 바뀌면 MemberProfileChangedEvent로 커밋 후 삭제, 다른 서버 메모리 캐시는 pub/sub으로 삭제
+ * 비공개 여부도 같이 캐시하므로 공개 여부 확인은 꺼낸 뒤에 한다
+ */
+@Slf4j
+@Component
+public class MemberProfileCache {
+  public static final String PROFILE_EVICT_CHANNEL = "profile-evict";
+  private static final String KEY_PREFIX = "profile:";
+
+  private final RedisService redisService;
+  private final Cache<Long, UserInfoResponseDto> localCache;
+  private final Duration redisTtl;
+  private final Counter localHit;
+  private final Counter redisHit;
+  private final Counter miss;
+
+  public MemberProfileCache(RedisService redisService,
+                            RedisMessageListenerContainer redisMessageListenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Value("${member.profile-cache.local-ttl-seconds:30}") long localTtlSeconds,
+                            @Value("${member.profile-cache.local-max-size:10000}") long localMaxSize,
+                            @Value("${member.profile-cache.redis-ttl-seconds:600}") long redisTtlSeconds) {
+    this.redisService = redisService;
+    this.localCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .maximumSize(localMaxSize)
+            .build();
+    this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+    this.localHit = meterRegistry.counter("member.profile.cache", "result", "hit", "tier", "local");
+    this.redisHit = meterRegistry.counter("member.profile.cache", "result", "hit", "tier", "redis");
+    this.miss = meterRegistry.counter("member.profile.cache", "result", "miss", "tier", "db");
+    redisMessageListenerContainer.addMessageListener(
+            (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(PROFILE_EVICT_CHANNEL));
+  }
+
+  /**
+   * 캐시에 없으면 loader(DB)로 만들어서 두 단계 모두 채운다
+   */
+  public UserInfoResponseDto get(Long memberId, Function<Long, UserInfoResponseDto> loader) {
+    UserInfoResponseDto profile = localCache.getIfPresent(memberId);
+    if (profile != null) {
+      localHit.increment();
+      return profile;
+    }
+
+    Map<String, String> hash = redisService.getHash(KEY_PREFIX + memberId);
+    if (!hash.isEmpty()) {
+      redisHit.increment();
+      profile = fromHash(hash);
+      localCache.put(memberId, profile);
+      return profile;
+    }
+
+    miss.increment();
+    profile = loader.apply(memberId);
+    redisService.putAllHash(KEY_PREFIX + memberId, toHash(profile), Instant.now().plus(redisTtl));
+    localCache.put(memberId, profile);
+    return profile;
+  }
+
+  public void evict(Long memberId) {
+    localCache.invalidate(memberId);
+    redisService.deleteValues(KEY_PREFIX + memberId);
+    redisService.publish(PROFILE_EVICT_CHANNEL, String.valueOf(memberId));
+  }
+
+  /**
+   * 트랜잭션 밖에서 발행된 이벤트(미션 완료)는 바로 처리
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProfileChanged(MemberProfileChangedEvent event) {
+    evict(event.getMemberId());
+  }
+
+  private void evictLocal(String memberId) {
+    try {
+      localCache.invalidate(Long.valueOf(memberId));
+    } catch (NumberFormatException e) {
+      log.warn("프로필 캐시 삭제 메시지 오류 : {}", memberId);
+    }
+  }
+
+  private Map<String, String> toHash(UserInfoResponseDto profile) {
+    Map<String, String> hash = new HashMap<>();
+    hash.put("id", String.valueOf(profile.getId()));
+    hash.put("nickname", profile.getNickname());
+    hash.put("username", profile.getUsername());
+    hash.put("profileImage", profile.getProfileImage());
+    hash.put("level", String.valueOf(profile.getLevel()));
+    hash.put("totalClear", String.valueOf(profile.getTotalClear()));
+    hash.put("nextLevelExp", String.valueOf(profile.getNextLevelExp()));
+    hash.put("needNextLevelExp", String.valueOf(profile.getNeedNextLevelExp()));
+    hash.put("isSecret", String.valueOf(profile.isSecret()));
+    hash.put("loginType", profile.getLoginType().name());
+    return hash;
+  }
+
+  private UserInfoResponseDto fromHash(Map<String, String> hash) {
+    return UserInfoResponseDto.builder()
+            .id(Long.valueOf(hash.get("id")))
+            .nickname(hash.get("nickname"))
+            .username(hash.get("username"))
+            .profileImage(hash.get("profileImage"))
+            .level(Integer.parseInt(hash.get("level")))
+            .totalClear(Integer.parseInt(hash.get("totalClear")))
+            .nextLevelExp(Integer.parseInt(hash.get("nextLevelExp")))
+            .needNextLevelExp(Integer.parseInt(hash.get("needNextLevelExp")))
+            .isSecret(Boolean.parseBoolean(hash.get("isSecret")))
+            .loginType(LoginType.valueOf(hash.get("loginType")))
+            .build();
+  }
+}
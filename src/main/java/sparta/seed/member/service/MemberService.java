@@ -1,6 +1,7 @@
 package sparta.seed.member.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -14,20 +15,24 @@ import sparta.seed.community.service.SlangService;
 import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
 import sparta.seed.jwt.TokenProvider;
+import sparta.seed.img.service.ImageIndex;
 import sparta.seed.member.domain.Member;
 import sparta.seed.member.domain.dto.requestdto.NicknameRequestDto;
 import sparta.seed.member.domain.dto.responsedto.NicknameResponseDto;
 import sparta.seed.member.domain.dto.responsedto.UserInfoResponseDto;
+import sparta.seed.member.domain.event.MemberProfileChangedEvent;
 import sparta.seed.member.repository.MemberRepository;
 import sparta.seed.mission.domain.ClearMission;
 import sparta.seed.mission.domain.dto.requestdto.MissionSearchCondition;
 import sparta.seed.mission.domain.dto.responsedto.ClearMissionResponseDto;
 import sparta.seed.mission.repository.ClearMissionRepository;
+import sparta.seed.mission.repository.MissionDailyStatRepository;
+import sparta.seed.mission.repository.DailyMissionStore;
 import sparta.seed.msg.ResponseMsg;
 import sparta.seed.s3.S3Uploader;
 import sparta.seed.login.UserDetailsImpl;
 import sparta.seed.util.DateUtil;
-import sparta.seed.util.ExpUtil;
+import sparta.seed.util.LevelCurve;
 import sparta.seed.util.RedisService;
 
 import javax.servlet.http.HttpServletRequest;
@@ -42,14 +47,19 @@ import java.util.List;
 public class MemberService {
   private final MemberRepository memberRepository;
   private final ClearMissionRepository clearMissionRepository;
+  private final MissionDailyStatRepository missionDailyStatRepository;
   private final ProofRepository proofRepository;
   private final ParticipantsRepository participantsRepository;
   private final RedisService redisService;
   private final SlangService slangService;
   private final TokenProvider tokenProvider;
   private final S3Uploader s3Uploader;
+  private final ImageIndex imageIndex;
   private final DateUtil dateUtil;
-  private final ExpUtil expUtil;
+  private final LevelCurve levelCurve;
+  private final DailyMissionStore dailyMissionStore;
+  private final MemberProfileCache memberProfileCache;
+  private final ApplicationEventPublisher eventPublisher;
   public static final String BEARER_PREFIX = "Bearer ";
   public static final String AUTHORIZATION_HEADER = "Authorization";
 
@@ -57,10 +67,7 @@ public class MemberService {
    * 마이페이지
    */
   public ResponseEntity<UserInfoResponseDto> getMyPage(UserDetailsImpl userDetails) {
-    Member member = memberRepository.findById(userDetails.getId())
-            .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
-
-    return getUserInfo(member);
+    return ResponseEntity.ok().body(memberProfileCache.get(userDetails.getId(), this::getUserInfo));
   }
 
   /**
@@ -79,9 +86,10 @@ public class MemberService {
   public ResponseEntity<NicknameResponseDto> updateNickname(UserDetailsImpl userDetails, NicknameRequestDto requestDto) {
     Member member = memberRepository.findById(userDetails.getId())
             .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
-    slangService.checkSlang(requestDto.getNickname());
+    slangService.checkAll(requestDto.getNickname());
     if (!(member.getNickname().equals(requestDto.getNickname()) && memberRepository.existsByNickname(requestDto.getNickname()))) {
       member.updateNickname(requestDto);
+      eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
       return ResponseEntity.ok().body(NicknameResponseDto.builder()
               .nickname(member.getNickname())
               .success(true)
@@ -104,7 +112,7 @@ public class MemberService {
                 .title(community.getTitle())
                 .img(community.getImg())
                 .writer(userDetails.getId().equals(community.getMemberId()))
-                .currentPercent(((double) community.getParticipantsList().size() / community.getLimitParticipants()) * 100)
+                .currentPercent(((double) community.getParticipantCount() / community.getLimitParticipants()) * 100)
                 .successPercent(((double) certifiedProof / community.getLimitScore()) * 100)
                 .startDate(community.getStartDate())
                 .endDate(community.getEndDate())
@@ -123,7 +131,14 @@ public class MemberService {
   public List<ClearMissionResponseDto> getDailyMissionStats(MissionSearchCondition condition, UserDetailsImpl userDetails) {
     Long memberId = userDetails.getId();
 
-    return clearMissionRepository.dailyMissionStats(condition, memberId);
+    return missionDailyStatRepository.dailyMissionStats(condition, memberId);
+  }
+
+  /**
+   * 미션 통계 - 시작일부터 주 단위 완료 수
+   */
+  public List<Long> getWeekMissionStats(MissionSearchCondition condition, UserDetailsImpl userDetails) {
+    return missionDailyStatRepository.weekMissionStats(condition, userDetails.getId());
   }
 
   /**
@@ -153,6 +168,7 @@ public class MemberService {
   public ResponseEntity<Boolean> isSceret(UserDetailsImpl userDetails) {
     Member member = memberRepository.findById(userDetails.getId())
             .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
+    eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
     if (!member.isSecret()) {
       member.updateIsSecret(true);
       return ResponseEntity.ok().body(true);
@@ -165,11 +181,9 @@ public class MemberService {
    * 다른유저 정보 확인
    */
   public ResponseEntity<UserInfoResponseDto> getUserinfo(Long memberId) {
-    Member member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
-    if (!member.isSecret()) {
-      return getUserInfo(member);
-
+    UserInfoResponseDto userInfo = memberProfileCache.get(memberId, this::getUserInfo);
+    if (!userInfo.isSecret()) {
+      return ResponseEntity.ok().body(userInfo);
     }
     throw new CustomException(ErrorCode.CLOSED_USER);
   }
@@ -217,7 +231,10 @@ public class MemberService {
     if (multipartFile == null) {
       throw new CustomException(ErrorCode.NOT_FOUND_IMG);
     }
-    member.changeProfileImage(s3Uploader.upload(multipartFile).getUploadImageUrl());
+    String profileImage = s3Uploader.upload(multipartFile).getUploadImageUrl();
+    imageIndex.release(member.getProfileImage());
+    member.changeProfileImage(profileImage);
+    eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
     return ResponseEntity.ok().body(true);
   }
 
@@ -228,15 +245,19 @@ public class MemberService {
   public ResponseEntity<String> withdrawal(UserDetailsImpl userDetails) {
     participantsRepository.deleteByMemberId(userDetails.getId());
     clearMissionRepository.deleteByMemberId(userDetails.getId());
+    missionDailyStatRepository.deleteByMemberId(userDetails.getId());
     memberRepository.deleteById(userDetails.getId());
+    dailyMissionStore.delete(userDetails.getId());
+    eventPublisher.publishEvent(new MemberProfileChangedEvent(userDetails.getId()));
     return ResponseEntity.ok().body(ResponseMsg.WITHDRAWAL_SUCCESS.getMsg());
   }
 
 
-  // 유저 정보 뽑기
-  private ResponseEntity<UserInfoResponseDto> getUserInfo(Member member) {
-    double clearMission = clearMissionRepository.countAllByMemberId(member.getId());
-    Integer needNextLevelExp = expUtil.getNextLevelExp().get(member.getLevel());
+  // 유저 정보 뽑기 (프로필 캐시에 없을때)
+  private UserInfoResponseDto getUserInfo(Long memberId) {
+    Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
+    int needNextLevelExp = levelCurve.getNeedNextLevelExp(member.getLevel());
 
     UserInfoResponseDto userInfoResponseDto = UserInfoResponseDto.builder()
             .id(member.getId())
@@ -244,17 +265,17 @@ public class MemberService {
             .username(member.getUsername())
             .profileImage(member.getProfileImage())
             .level(member.getLevel())
-            .totalClear((int) clearMission)
+            .totalClear(member.getTotalClear())
             .nextLevelExp(member.getExp())
             .needNextLevelExp(needNextLevelExp)
             .isSecret(member.isSecret())
             .loginType(member.getLoginType())
             .build();
-    return ResponseEntity.ok().body(userInfoResponseDto);
+    return userInfoResponseDto;
   }
 
   private Long countOfCertifiedProofBy(Community community) {
-    if (community.getParticipantsList().size() >= 2) {
+    if (community.getParticipantCount() >= 2) {
       return proofRepository.countOfCertifiedProofByMoreThanTwoPeople(community);
     } else {
       return proofRepository.countOfCertifiedProofByOnePeople(community);
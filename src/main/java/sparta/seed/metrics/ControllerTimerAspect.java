@@ -0,0 +1,64 @@
+package sparta.seed.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 실행 시간 Timer (controller.execution, p50 / p95 / p99)
+ * Timer는 메서드별로 처음 한번만 만들고, 느린 요청만 일부 샘플링해서 로그를 남긴다
+ */
+@Slf4j
+@Aspect
+@Component
+public class ControllerTimerAspect {
+  private final MeterRegistry meterRegistry;
+  //이 시간(ms)을 넘으면 느린 요청
+  private final long slowThresholdNanos;
+  //느린 요청 중 로그를 남길 비율 (0 ~ 1)
+  private final double slowLogSampleRate;
+  //조인포인트(메서드)별 Timer - 태그 계산 / 등록은 메서드마다 한번
+  private final Map<JoinPoint.StaticPart, Timer> timers = new ConcurrentHashMap<>();
+
+  public ControllerTimerAspect(MeterRegistry meterRegistry,
+                               @Value("${metrics.controller.slow-threshold-ms:500}") long slowThresholdMillis,
+                               @Value("${metrics.controller.slow-log-sample-rate:0.1}") double slowLogSampleRate) {
+    this.meterRegistry = meterRegistry;
+    this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    this.slowLogSampleRate = slowLogSampleRate;
+  }
+
+  @Around("bean(*Controller)")
+  public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      long elapsed = System.nanoTime() - start;
+      JoinPoint.StaticPart staticPart = joinPoint.getStaticPart();
+      timers.computeIfAbsent(staticPart, this::newTimer).record(elapsed, TimeUnit.NANOSECONDS);
+      if (elapsed > slowThresholdNanos && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+        log.warn("느린 요청 : {}, {}ms", staticPart.getSignature().toShortString(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+      }
+    }
+  }
+
+  private Timer newTimer(JoinPoint.StaticPart staticPart) {
+    return Timer.builder("controller.execution")
+            .tag("class", staticPart.getSignature().getDeclaringType().getSimpleName())
+            .tag("method", staticPart.getSignature().getName())
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+  }
+}
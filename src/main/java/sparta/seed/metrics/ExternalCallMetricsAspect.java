@@ -0,0 +1,35 @@
+package sparta.seed.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레디스(RedisService) / S3(S3Uploader) 호출 횟수와 시간을 RequestMetrics에 기록
+ * 업로드 스레드풀에서 실행된 업로드는 요청 스레드가 결과를 기다린 시간(ImageUploadPipeline.await)으로 기록
+ */
+@Aspect
+@Component
+public class ExternalCallMetricsAspect {
+
+  @Around("execution(public * sparta.seed.util.RedisService.*(..))")
+  public Object redis(ProceedingJoinPoint joinPoint) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      RequestMetrics.recordRedis(System.nanoTime() - start);
+    }
+  }
+
+  @Around("execution(public * sparta.seed.s3.S3Uploader.*(..)) || execution(public * sparta.seed.s3.ImageUploadPipeline.await(..))")
+  public Object s3(ProceedingJoinPoint joinPoint) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      RequestMetrics.recordS3(System.nanoTime() - start);
+    }
+  }
+}
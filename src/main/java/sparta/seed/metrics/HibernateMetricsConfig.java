@@ -0,0 +1,20 @@
+package sparta.seed.metrics;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate에 SQL 형태 수집 / JDBC 시간 측정 리스너 등록
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer requestMetricsHibernateCustomizer() {
+    return properties -> {
+      properties.put("hibernate.session_factory.statement_inspector", new SqlShapeInspector());
+      properties.put("hibernate.session.events.auto", JdbcTimingListener.class.getName());
+    };
+  }
+}
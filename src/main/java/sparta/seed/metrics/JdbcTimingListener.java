@@ -0,0 +1,23 @@
+package sparta.seed.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate 세션별로 만들어지는 리스너 - JDBC 실행 시간을 RequestMetrics에 더한다
+ */
+public class JdbcTimingListener extends BaseSessionEventListener {
+  private long executeStart = -1;
+
+  @Override
+  public void jdbcExecuteStatementStart() {
+    executeStart = System.nanoTime();
+  }
+
+  @Override
+  public void jdbcExecuteStatementEnd() {
+    if (executeStart >= 0) {
+      RequestMetrics.recordDbTime(System.nanoTime() - executeStart);
+      executeStart = -1;
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package sparta.seed.metrics;
+
+import lombok.Getter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 최근 감지된 N+1 (/actuator/nplusone) - 요청 하나에서 같은 형태의 SQL이 기준 횟수보다 많이 실행된 경우
+ */
+@Component
+@Endpoint(id = "nplusone")
+public class NPlusOneEndpoint {
+  private static final int MAX_DETECTIONS = 100;
+
+  private final Deque<Detection> detections = new ArrayDeque<>();
+
+  @ReadOperation
+  public synchronized List<Detection> detections() {
+    return new ArrayList<>(detections);
+  }
+
+  synchronized void record(Detection detection) {
+    if (detections.size() == MAX_DETECTIONS) {
+      detections.removeLast();
+    }
+    detections.addFirst(detection);
+  }
+
+  @Getter
+  public static class Detection {
+    private final LocalDateTime detectedAt = LocalDateTime.now();
+    private final String uri;
+    private final String sql;
+    private final int count;
+
+    Detection(String uri, String sql, int count) {
+      this.uri = uri;
+      this.sql = sql;
+      this.count = count;
+    }
+  }
+}
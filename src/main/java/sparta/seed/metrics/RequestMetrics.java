@@ -0,0 +1,65 @@
+package sparta.seed.metrics;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나 동안의 DB / 레디스 / S3 사용량 (스레드별)
+ * RequestMetricsFilter가 요청 시작 / 끝에서 열고 닫는다. 요청 밖(스케줄러 등)에서는 기록하지 않는다
+ */
+@Getter
+public class RequestMetrics {
+  private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+  private int statementCount;
+  private long dbNanos;
+  private int redisCount;
+  private long redisNanos;
+  private int s3Count;
+  private long s3Nanos;
+  //SQL 형태별 실행 횟수 (N+1 감지용)
+  private final Map<String, Integer> sqlShapes = new HashMap<>();
+
+  static RequestMetrics start() {
+    RequestMetrics metrics = new RequestMetrics();
+    CURRENT.set(metrics);
+    return metrics;
+  }
+
+  static void end() {
+    CURRENT.remove();
+  }
+
+  static void recordStatement(String sqlShape) {
+    RequestMetrics metrics = CURRENT.get();
+    if (metrics != null) {
+      metrics.statementCount++;
+      metrics.sqlShapes.merge(sqlShape, 1, Integer::sum);
+    }
+  }
+
+  static void recordDbTime(long nanos) {
+    RequestMetrics metrics = CURRENT.get();
+    if (metrics != null) {
+      metrics.dbNanos += nanos;
+    }
+  }
+
+  static void recordRedis(long nanos) {
+    RequestMetrics metrics = CURRENT.get();
+    if (metrics != null) {
+      metrics.redisCount++;
+      metrics.redisNanos += nanos;
+    }
+  }
+
+  static void recordS3(long nanos) {
+    RequestMetrics metrics = CURRENT.get();
+    if (metrics != null) {
+      metrics.s3Count++;
+      metrics.s3Nanos += nanos;
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package sparta.seed.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 수 / DB 시간 / 레디스 / S3 사용량을 Micrometer로 내보내고 N+1을 감지한다
+ * 지표 : request.jdbc.statements, request.db.time, request.redis.calls, request.redis.time, request.s3.time (uri 태그)
+ */
+@Slf4j
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+  private final MeterRegistry meterRegistry;
+  private final NPlusOneEndpoint nPlusOneEndpoint;
+  //요청 하나에서 같은 형태의 SQL이 이 횟수보다 많으면 N+1로 본다
+  private final int nPlusOneThreshold;
+
+  public RequestMetricsFilter(MeterRegistry meterRegistry, NPlusOneEndpoint nPlusOneEndpoint,
+                              @Value("${metrics.n-plus-one.threshold:5}") int nPlusOneThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.nPlusOneEndpoint = nPlusOneEndpoint;
+    this.nPlusOneThreshold = nPlusOneThreshold;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    RequestMetrics metrics = RequestMetrics.start();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestMetrics.end();
+      record(uriOf(request), metrics);
+    }
+  }
+
+  private void record(String uri, RequestMetrics metrics) {
+    DistributionSummary.builder("request.jdbc.statements").tag("uri", uri).register(meterRegistry).record(metrics.getStatementCount());
+    Timer.builder("request.db.time").tag("uri", uri).register(meterRegistry).record(metrics.getDbNanos(), TimeUnit.NANOSECONDS);
+    if (metrics.getRedisCount() > 0) {
+      DistributionSummary.builder("request.redis.calls").tag("uri", uri).register(meterRegistry).record(metrics.getRedisCount());
+      Timer.builder("request.redis.time").tag("uri", uri).register(meterRegistry).record(metrics.getRedisNanos(), TimeUnit.NANOSECONDS);
+    }
+    if (metrics.getS3Count() > 0) {
+      Timer.builder("request.s3.time").tag("uri", uri).register(meterRegistry).record(metrics.getS3Nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    for (Map.Entry<String, Integer> entry : metrics.getSqlShapes().entrySet()) {
+      if (entry.getValue() > nPlusOneThreshold) {
+        meterRegistry.counter("request.n_plus_one", "uri", uri).increment();
+        nPlusOneEndpoint.record(new NPlusOneEndpoint.Detection(uri, entry.getKey(), entry.getValue()));
+        log.warn("N+1 의심 : {} - 같은 SQL {}번 실행, {}", uri, entry.getValue(), entry.getKey());
+      }
+    }
+  }
+
+  //경로 변수가 들어간 실제 URI 대신 매핑 패턴으로 태그 (태그 수 폭증 방지)
+  private String uriOf(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? pattern.toString() : "UNKNOWN";
+  }
+}
@@ -0,0 +1,28 @@
+package sparta.seed.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+/**
+ * 실행되는 SQL을 형태(리터럴 / IN 목록 제거)별로 세어서 RequestMetrics에 기록 - SQL은 그대로 돌려준다
+ */
+public class SqlShapeInspector implements StatementInspector {
+  private static final Pattern STRING_LITERAL = Pattern.compile("'[^']*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+  private static final Pattern IN_LIST = Pattern.compile("in\\s*\\((\\s*\\?\\s*,)*\\s*\\?\\s*\\)", Pattern.CASE_INSENSITIVE);
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  @Override
+  public String inspect(String sql) {
+    RequestMetrics.recordStatement(shapeOf(sql));
+    return sql;
+  }
+
+  static String shapeOf(String sql) {
+    String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+    shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+    shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+    return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+  }
+}
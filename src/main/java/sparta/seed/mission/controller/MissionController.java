@@ -43,6 +43,25 @@ public class MissionController {
 		return "레디스 삭제완료";
 	}
 
+	/**
+	 * 레디스 중복미션 방지 데이터 일괄 삭제 - 관리자 (legacyOnly면 주기 표시 없는 예전 키만)
+	 */
+	@DeleteMapping("/api/admin/missions")
+	@PreAuthorize("hasAnyRole('ADMIN')")
+	public String purgeMissionSets(@RequestParam(defaultValue = "true") boolean legacyOnly,
+	                               @RequestParam(defaultValue = "500") int batchSize){
+		return "레디스 삭제완료 : " + missionService.purgeMissionSets(legacyOnly, batchSize) + "건";
+	}
+
+	/**
+	 * 미션 통계 집계본 / 회원별 완료 수 재구성 - 관리자
+	 */
+	@PostMapping("/api/admin/missions/stats")
+	@PreAuthorize("hasAnyRole('ADMIN')")
+	public String rebuildStats(){
+		return "미션 통계 재구성 완료 : " + missionService.rebuildStats();
+	}
+
 	/**
 	 * 미션 완료
 	 */
@@ -8,11 +8,15 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 
 @Getter
 @NoArgsConstructor
 @Entity
+//같은 날 같은 미션은 한번만 완료 (동시 요청 / 서버 여러대 중복 방지)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_clear_mission", columnNames = {"memberId", "clearTime", "content"}))
 public class ClearMission{
   //PK
   @Id
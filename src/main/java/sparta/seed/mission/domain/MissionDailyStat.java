@@ -0,0 +1,34 @@
+package sparta.seed.mission.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.time.LocalDate;
+
+
+/**
+ * 회원별 / 날짜별 미션 완료 수 (ClearMission 집계본)
+ * 미션 완료 시 upsert, 주간 / 월간 통계는 여기서 기간 조회
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_mission_daily_stat", columnNames = {"memberId", "statDate"}))
+public class MissionDailyStat {
+  //PK
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+  //회원 Pk
+  private Long memberId;
+  //완료 날짜
+  private LocalDate statDate;
+  //그날 완료한 미션 수
+  private int clearCount;
+}
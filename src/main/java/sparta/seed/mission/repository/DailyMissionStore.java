@@ -0,0 +1,40 @@
+package sparta.seed.mission.repository;
+
+import java.util.Map;
+
+/**
+ * 오늘의 미션 저장소 (미션 내용 -> 완료 여부)
+ * 기본은 레디스 해시, mission.daily-store=jpa 면 Member.dailyMission 컬렉션 사용
+ */
+public interface DailyMissionStore {
+
+  Map<String, Boolean> findAll(Long memberId);
+
+  void putAll(Long memberId, Map<String, Boolean> missions);
+
+  /**
+   * 미완료 -> 완료 원자적 변경 - 동시에 여러번 요청해도 한번만 COMPLETED
+   */
+  CompleteResult complete(Long memberId, String mission);
+
+  /**
+   * 완료 -> 미완료 되돌리기 - 완료 처리 이후 단계가 실패했을때 보상용
+   */
+  void revert(Long memberId, String mission);
+
+  void delete(Long memberId);
+
+  /**
+   * 자정 초기화 - 만료로 지워지는 저장소는 할 일 없음
+   */
+  void resetAll();
+
+  enum CompleteResult {
+    //이번 요청으로 완료
+    COMPLETED,
+    //이미 완료된 미션
+    ALREADY_COMPLETED,
+    //오늘의 미션에 없음
+    NOT_FOUND
+  }
+}
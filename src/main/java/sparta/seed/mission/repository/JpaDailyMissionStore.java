@@ -0,0 +1,129 @@
+package sparta.seed.mission.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import sparta.seed.exception.CustomException;
+import sparta.seed.exception.ErrorCode;
+import sparta.seed.member.domain.Member;
+import sparta.seed.member.repository.MemberRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Member.dailyMission 컬렉션 테이블 (레디스 장애 대비용)
+ * 자정 초기화 진행 상황은 mission.daily-reset.* 지표로 노출 (전체 소요 시간 / 삭제 행 수 / 처리한 구간 수)
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "mission.daily-store", havingValue = "jpa")
+public class JpaDailyMissionStore implements DailyMissionStore {
+  private final MemberRepository memberRepository;
+
+  //자정 초기화 시 한번에 지울 member_id 구간 크기 (0 이하면 한번에 전체 삭제)
+  private final long dailyResetChunkSize;
+  private final Timer resetTimer;
+  private final Counter resetRows;
+  //진행 중인 초기화의 처리한 구간 수 / 전체 구간 수
+  private final AtomicLong resetChunksDone = new AtomicLong();
+  private final AtomicLong resetChunksTotal = new AtomicLong();
+
+  public JpaDailyMissionStore(MemberRepository memberRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${mission.daily-reset.chunk-size:1000}") long dailyResetChunkSize) {
+    this.memberRepository = memberRepository;
+    this.dailyResetChunkSize = dailyResetChunkSize;
+    this.resetTimer = meterRegistry.timer("mission.daily-reset.duration");
+    this.resetRows = meterRegistry.counter("mission.daily-reset.rows");
+    meterRegistry.gauge("mission.daily-reset.chunks", Tags.of("state", "done"), resetChunksDone);
+    meterRegistry.gauge("mission.daily-reset.chunks", Tags.of("state", "total"), resetChunksTotal);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<String, Boolean> findAll(Long memberId) {
+    return new HashMap<>(findMember(memberId).getDailyMission());
+  }
+
+  @Override
+  @Transactional
+  public void putAll(Long memberId, Map<String, Boolean> missions) {
+    findMember(memberId).getDailyMission().putAll(missions);
+  }
+
+  /**
+   * 조건부 update 한번으로 완료 처리 - 영향받은 행이 없을때만 이유를 확인
+   */
+  @Override
+  @Transactional
+  public CompleteResult complete(Long memberId, String mission) {
+    if (memberRepository.completeDailyMission(memberId, mission) == 1) {
+      return CompleteResult.COMPLETED;
+    }
+    return memberRepository.countDailyMission(memberId, mission) > 0 ? CompleteResult.ALREADY_COMPLETED : CompleteResult.NOT_FOUND;
+  }
+
+  @Override
+  @Transactional
+  public void revert(Long memberId, String mission) {
+    memberRepository.revertDailyMission(memberId, mission);
+  }
+
+  @Override
+  public void delete(Long memberId) {
+    // 회원 삭제 시 컬렉션 테이블도 같이 지워진다
+  }
+
+  /**
+   * 회원을 메모리에 올리지 않고 member_daily_mission 테이블을 구간별로 벌크 삭제
+   */
+  @Override
+  public void resetAll() {
+    resetTimer.record(this::resetChunks);
+  }
+
+  private void resetChunks() {
+    long start = System.currentTimeMillis();
+    if (dailyResetChunkSize <= 0) {
+      resetChunksTotal.set(1);
+      resetChunksDone.set(0);
+      int deleted = memberRepository.deleteAllDailyMission();
+      resetRows.increment(deleted);
+      resetChunksDone.set(1);
+      log.info("일일미션 초기화 완료 : {}건, {}ms", deleted, System.currentTimeMillis() - start);
+      return;
+    }
+
+    Long maxId = memberRepository.findMaxId();
+    if (maxId == null) {
+      return;
+    }
+    long deleted = 0;
+    long chunks = (maxId + dailyResetChunkSize - 1) / dailyResetChunkSize;
+    resetChunksTotal.set(chunks);
+    resetChunksDone.set(0);
+    for (long chunk = 0; chunk < chunks; chunk++) {
+      long fromId = chunk * dailyResetChunkSize + 1;
+      int rows = memberRepository.deleteDailyMissionBetween(fromId, fromId + dailyResetChunkSize - 1);
+      deleted += rows;
+      resetRows.increment(rows);
+      resetChunksDone.incrementAndGet();
+      if ((chunk + 1) % 100 == 0) {
+        log.info("일일미션 초기화 진행 : {}/{} 구간, {}건", chunk + 1, chunks, deleted);
+      }
+    }
+    log.info("일일미션 초기화 완료 : {}구간, {}건, {}ms", chunks, deleted, System.currentTimeMillis() - start);
+  }
+
+  private Member findMember(Long memberId) {
+    return memberRepository.findById(memberId).orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
+  }
+}
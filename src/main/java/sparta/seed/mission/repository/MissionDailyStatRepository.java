@@ -0,0 +1,35 @@
+package sparta.seed.mission.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sparta.seed.mission.domain.MissionDailyStat;
+import sparta.seed.mission.repository.customrepository.MissionDailyStatRepositoryCustom;
+
+import java.time.LocalDate;
+
+public interface MissionDailyStatRepository extends JpaRepository<MissionDailyStat, Long>, MissionDailyStatRepositoryCustom {
+
+  /**
+   * 미션 완료 시 그날 완료 수 +1 (행이 없으면 생성)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "insert into mission_daily_stat (member_id, stat_date, clear_count) values (:memberId, :statDate, 1) " +
+          "on duplicate key update clear_count = clear_count + 1", nativeQuery = true)
+  int increaseClearCount(@Param("memberId") Long memberId, @Param("statDate") LocalDate statDate);
+
+  /**
+   * ClearMission 원본으로 집계본 다시 채우기 (최초 도입 / 보정용)
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "insert into mission_daily_stat (member_id, stat_date, clear_count) " +
+          "select member_id, clear_time, count(*) from clear_mission group by member_id, clear_time " +
+          "on duplicate key update clear_count = values(clear_count)", nativeQuery = true)
+  int rebuildAll();
+
+  void deleteByMemberId(Long memberId);
+}
@@ -0,0 +1,67 @@
+package sparta.seed.mission.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import sparta.seed.util.RedisService;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 회원별 / 날짜별 레디스 해시 (daily_mission:{memberId}:{yyyy-MM-dd})
+ * 다음날 자정에 만료되므로 자정 초기화가 필요없다
+ * 날짜는 완료 기록 / 일별 통계 / 자정 초기화 스케줄러와 같은 서버 기본 시간대 기준
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mission.daily-store", havingValue = "redis", matchIfMissing = true)
+public class RedisDailyMissionStore implements DailyMissionStore {
+  private final RedisService redisService;
+
+  @Override
+  public Map<String, Boolean> findAll(Long memberId) {
+    Map<String, Boolean> missions = new HashMap<>();
+    redisService.getHash(key(memberId)).forEach((mission, complete) -> missions.put(mission, Boolean.valueOf(complete)));
+    return missions;
+  }
+
+  @Override
+  public void putAll(Long memberId, Map<String, Boolean> missions) {
+    if (missions.isEmpty()) {
+      return;
+    }
+    Map<String, String> data = new HashMap<>();
+    missions.forEach((mission, complete) -> data.put(mission, String.valueOf(complete)));
+    redisService.putAllHash(key(memberId), data, LocalDate.now().plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+  }
+
+  @Override
+  public CompleteResult complete(Long memberId, String mission) {
+    long result = redisService.compareAndSetHash(key(memberId), mission, String.valueOf(false), String.valueOf(true));
+    if (result == 1) {
+      return CompleteResult.COMPLETED;
+    }
+    return result == 0 ? CompleteResult.ALREADY_COMPLETED : CompleteResult.NOT_FOUND;
+  }
+
+  @Override
+  public void revert(Long memberId, String mission) {
+    redisService.compareAndSetHash(key(memberId), mission, String.valueOf(true), String.valueOf(false));
+  }
+
+  @Override
+  public void delete(Long memberId) {
+    redisService.deleteValues(key(memberId));
+  }
+
+  @Override
+  public void resetAll() {
+  }
+
+  private String key(Long memberId) {
+    return "daily_mission:" + memberId + ":" + LocalDate.now();
+  }
+}
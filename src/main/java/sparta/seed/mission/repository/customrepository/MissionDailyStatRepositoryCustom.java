@@ -5,8 +5,8 @@ import sparta.seed.mission.domain.dto.responsedto.ClearMissionResponseDto;
 
 import java.util.List;
 
-public interface ClearMissionRepositoryCustom {
+public interface MissionDailyStatRepositoryCustom {
   List<ClearMissionResponseDto> dailyMissionStats(MissionSearchCondition condition, Long memberId);
 
-  List<Long> WeekMissionStats(MissionSearchCondition condition, Long memberId);
+  List<Long> weekMissionStats(MissionSearchCondition condition, Long memberId);
 }
@@ -0,0 +1,95 @@
+package sparta.seed.mission.repository.customrepository.impl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import sparta.seed.exception.CustomException;
+import sparta.seed.exception.ErrorCode;
+import sparta.seed.mission.domain.dto.requestdto.MissionSearchCondition;
+import sparta.seed.mission.domain.dto.responsedto.ClearMissionResponseDto;
+import sparta.seed.mission.repository.customrepository.MissionDailyStatRepositoryCustom;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static sparta.seed.mission.domain.QMissionDailyStat.missionDailyStat;
+
+
+@RequiredArgsConstructor
+public class MissionDailyStatRepositoryImpl implements MissionDailyStatRepositoryCustom {
+
+  //통계 조회 기간 최대 일수
+  private static final long MAX_STAT_DAYS = 366;
+
+  private final JPAQueryFactory queryFactory;
+
+  /**
+   * 기간 내 날짜별 완료 수 - 완료한 날만
+   */
+  @Override
+  public List<ClearMissionResponseDto> dailyMissionStats(MissionSearchCondition condition, Long memberId) {
+    LocalDate startDate = parseDate(condition.getStartDate());
+    LocalDate endDate = parseDate(condition.getEndDate());
+    List<ClearMissionResponseDto> results = new ArrayList<>();
+    if (endDate.isBefore(startDate)) {
+      return results;
+    }
+    checkRange(startDate, endDate);
+    for (Tuple tuple : fetchDailyStats(startDate, endDate, memberId)) {
+      results.add(new ClearMissionResponseDto(String.valueOf(tuple.get(missionDailyStat.statDate)), tuple.get(missionDailyStat.clearCount)));
+    }
+    return results;
+  }
+
+  /**
+   * 시작일부터 7일 단위 완료 수 - 완료하지 않은 주는 0
+   */
+  @Override
+  public List<Long> weekMissionStats(MissionSearchCondition condition, Long memberId) {
+    LocalDate startDate = parseDate(condition.getStartDate());
+    LocalDate endDate = parseDate(condition.getEndDate());
+    List<Long> results = new ArrayList<>();
+    if (endDate.isBefore(startDate)) {
+      return results;
+    }
+    checkRange(startDate, endDate);
+    long weeks = ChronoUnit.DAYS.between(startDate, endDate) / 7 + 1;
+    for (int i = 0; i < weeks; i++) {
+      results.add(0L);
+    }
+    for (Tuple tuple : fetchDailyStats(startDate, endDate, memberId)) {
+      int week = (int) (ChronoUnit.DAYS.between(startDate, tuple.get(missionDailyStat.statDate)) / 7);
+      results.set(week, results.get(week) + tuple.get(missionDailyStat.clearCount));
+    }
+    return results;
+  }
+
+  private LocalDate parseDate(String date) {
+    if (date == null) {
+      throw new CustomException(ErrorCode.INVALID_STAT_DATE);
+    }
+    try {
+      return LocalDate.parse(date);
+    } catch (DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_STAT_DATE);
+    }
+  }
+
+  private void checkRange(LocalDate startDate, LocalDate endDate) {
+    if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_STAT_DAYS) {
+      throw new CustomException(ErrorCode.STAT_RANGE_TOO_LONG);
+    }
+  }
+
+  private List<Tuple> fetchDailyStats(LocalDate startDate, LocalDate endDate, Long memberId) {
+    return queryFactory.select(missionDailyStat.statDate, missionDailyStat.clearCount)
+            .from(missionDailyStat)
+            .where(missionDailyStat.memberId.eq(memberId),
+                    missionDailyStat.statDate.between(startDate, endDate))
+            .orderBy(missionDailyStat.statDate.asc())
+            .fetch();
+  }
+}
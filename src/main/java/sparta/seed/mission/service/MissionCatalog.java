@@ -0,0 +1,110 @@
+package sparta.seed.mission.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import sparta.seed.mission.domain.Mission;
+import sparta.seed.mission.repository.MissionRepository;
+import sparta.seed.util.RedisService;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 미션 목록 메모리 캐시 - 난이도([하]/[중]/[상])별로 나눠서 보관
+ * 서버 시작 시 로딩, 미션 생성 시 다시 로딩 (다른 서버는 pub/sub으로 다시 로딩)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionCatalog {
+  public static final String EASY = "[하]";
+  public static final String NORMAL = "[중]";
+  public static final String HARD = "[상]";
+  private static final String ETC = "";
+  public static final String MISSION_REFRESH_CHANNEL = "mission-refresh";
+
+  private final MissionRepository missionRepository;
+  private final RedisService redisService;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+  //통째로 교체
+  private volatile Map<String, List<Mission>> missionsByDifficulty = Collections.emptyMap();
+
+  @PostConstruct
+  public void init() {
+    redisMessageListenerContainer.addMessageListener((message, pattern) -> reload(), new ChannelTopic(MISSION_REFRESH_CHANNEL));
+  }
+
+  /**
+   * 미션 생성 후 호출 - 모든 서버의 목록을 다시 로딩
+   */
+  public void refresh() {
+    reload();
+    redisService.publish(MISSION_REFRESH_CHANNEL, "reload");
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reload() {
+    Map<String, List<Mission>> catalog = new HashMap<>();
+    for (Mission mission : missionRepository.findAll()) {
+      catalog.computeIfAbsent(difficultyOf(mission.getContent()), difficulty -> new ArrayList<>()).add(mission);
+    }
+    catalog.replaceAll((difficulty, missions) -> Collections.unmodifiableList(missions));
+    missionsByDifficulty = Collections.unmodifiableMap(catalog);
+    log.info("미션 목록 로딩 완료 : {}", catalog.keySet());
+  }
+
+  /**
+   * 레벨별 받을 수 있는 미션에서 이번주에 받은 미션 / 이미 가진 미션을 빼고 최대 count개 뽑기
+   */
+  public List<Mission> sample(int level, int count, Set<String> excludeIds, Collection<String> excludeContents) {
+    List<Mission> candidates = new ArrayList<>();
+    for (String difficulty : allowedDifficulties(level)) {
+      for (Mission mission : missionsByDifficulty.getOrDefault(difficulty, Collections.emptyList())) {
+        if (!excludeIds.contains(String.valueOf(mission.getId())) && !excludeContents.contains(mission.getContent())) {
+          candidates.add(mission);
+        }
+      }
+    }
+
+    //앞에서부터 count개만 섞는 부분 Fisher-Yates
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int size = Math.min(count, candidates.size());
+    for (int i = 0; i < size; i++) {
+      Collections.swap(candidates, i, i + random.nextInt(candidates.size() - i));
+    }
+    return new ArrayList<>(candidates.subList(0, size));
+  }
+
+  private List<String> allowedDifficulties(int level) {
+    if (level < 4) {
+      return List.of(EASY);
+    } else if (level < 8) {
+      return List.of(EASY, NORMAL);
+    }
+    return List.of(EASY, NORMAL, HARD, ETC);
+  }
+
+  private String difficultyOf(String content) {
+    if (content != null) {
+      for (String difficulty : List.of(EASY, NORMAL, HARD)) {
+        if (content.startsWith(difficulty)) {
+          return difficulty;
+        }
+      }
+    }
+    return ETC;
+  }
+}
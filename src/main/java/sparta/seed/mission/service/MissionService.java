@@ -1,10 +1,16 @@
 package sparta.seed.mission.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
 import sparta.seed.member.domain.Member;
+import sparta.seed.member.domain.event.MemberProfileChangedEvent;
 import sparta.seed.member.repository.MemberRepository;
 import sparta.seed.mission.domain.ClearMission;
 import sparta.seed.mission.domain.Mission;
@@ -13,15 +19,20 @@ import sparta.seed.mission.domain.dto.responsedto.MissionClearResponseDto;
 import sparta.seed.mission.domain.dto.responsedto.MissionDetailResponseDto;
 import sparta.seed.mission.domain.dto.responsedto.MissionResponseDto;
 import sparta.seed.mission.repository.ClearMissionRepository;
+import sparta.seed.mission.repository.DailyMissionStore;
+import sparta.seed.mission.repository.MissionDailyStatRepository;
 import sparta.seed.mission.repository.MissionRepository;
 import sparta.seed.login.UserDetailsImpl;
-import sparta.seed.util.ExpUtil;
+import sparta.seed.util.LevelCurve;
 import sparta.seed.util.RedisService;
 
 import javax.transaction.Transactional;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 
 
@@ -31,8 +42,18 @@ public class MissionService {
   private final MissionRepository missionRepository;
   private final MemberRepository memberRepository;
   private final ClearMissionRepository clearMissionRepository;
+  private final MissionDailyStatRepository missionDailyStatRepository;
   private final RedisService redisService;
-  private final ExpUtil expUtil;
+  private final LevelCurve levelCurve;
+  private final MissionCatalog missionCatalog;
+  private final DailyMissionStore dailyMissionStore;
+  private final ApplicationEventPublisher eventPublisher;
+  private final PlatformTransactionManager transactionManager;
+  private static final int DAILY_MISSION_CNT = 5;
+  //경험치 compare-and-set 재시도 횟수
+  private static final int MAX_EXP_UPDATE_ATTEMPTS = 10;
+  //미션 키 일괄 삭제 시 한 번에 UNLINK 할 최대 키 수
+  private static final int MAX_PURGE_BATCH_SIZE = 10000;
 
 
   /**
@@ -41,6 +62,7 @@ public class MissionService {
   public Mission crateMission(MissionRequestDto missionRequestDto) {
     Mission mission = Mission.builder().content(missionRequestDto.getMissionName()).build();
     missionRepository.save(mission);
+    missionCatalog.refresh();
     return mission;
   }
 
@@ -55,29 +77,27 @@ public class MissionService {
 
       int memberLevel = loginMember.getLevel();
 
-      Map<String, Boolean> dailyMission = loginMember.getDailyMission();
-
-      while (dailyMission.size() < 5) {
-        Mission mission = missionRepository.findById((long) ((Math.random() * missionRepository.count())+1)).get();
-        String missionId = String.valueOf(mission.getId());
-        Set<String> missionSet = redisService.getMissionSet(String.valueOf(userDetails.getId()));
-
-        if(!missionSet.contains(missionId)){
-          if(memberLevel < 4){
-            if(mission.getContent().startsWith("[하]")){
-              dailyMission.put(mission.getContent(), false);
-              redisService.addMission(String.valueOf(userDetails.getId()), missionId);
-            }
-          } else if (memberLevel < 8 ) {
-            if(mission.getContent().startsWith("[하]") || mission.getContent().startsWith("[중]")) {
-              dailyMission.put(mission.getContent(), false);
-              redisService.addMission(String.valueOf(userDetails.getId()), missionId);
-            }
-          }else {
-            dailyMission.put(mission.getContent(), false);
-            redisService.addMission(String.valueOf(userDetails.getId()), missionId);
-          }
+      Map<String, Boolean> dailyMission = dailyMissionStore.findAll(loginMember.getId());
+
+      if (dailyMission.size() < DAILY_MISSION_CNT) {
+        String memberId = String.valueOf(userDetails.getId());
+        Set<String> missionSet = redisService.getMissionSet(memberId);
+        List<Mission> missions = missionCatalog.sample(memberLevel, DAILY_MISSION_CNT - dailyMission.size(), missionSet, dailyMission.keySet());
+        // 이번주에 받을 수 있는 미션을 다 받았으면 중복을 허용해서 채운다
+        if (missions.size() < DAILY_MISSION_CNT - dailyMission.size()) {
+          List<String> sampledContents = missions.stream().map(Mission::getContent).collect(Collectors.toList());
+          sampledContents.addAll(dailyMission.keySet());
+          missions.addAll(missionCatalog.sample(memberLevel, DAILY_MISSION_CNT - dailyMission.size() - missions.size(), Set.of(), sampledContents));
+        }
 
+        Map<String, Boolean> newMissions = new HashMap<>();
+        for (Mission mission : missions) {
+          newMissions.put(mission.getContent(), false);
+        }
+        dailyMissionStore.putAll(loginMember.getId(), newMissions);
+        dailyMission.putAll(newMissions);
+        if (!missions.isEmpty()) {
+          redisService.addMissions(memberId, missions.stream().map(mission -> String.valueOf(mission.getId())).toArray(String[]::new));
         }
       }
 
@@ -103,61 +123,112 @@ public class MissionService {
   }
 
   /**
-   * 미션 완료
+   * 레디스 중복미션 데이터 일괄 삭제 (마이그레이션용)
+   */
+  public long purgeMissionSets(boolean legacyOnly, int batchSize) {
+    if (batchSize < 1 || batchSize > MAX_PURGE_BATCH_SIZE) {
+      throw new CustomException(ErrorCode.INVALID_BATCH_SIZE);
+    }
+    return redisService.purgeMissionSets(legacyOnly, batchSize);
+  }
+
+  /**
+   * 미션 통계 집계본 / 회원별 완료 수 다시 채우기 (도입 시 / 보정용)
+   */
+  public String rebuildStats() {
+    int dailyStats = missionDailyStatRepository.rebuildAll();
+    int members = memberRepository.syncTotalClear();
+    return "일별 통계 " + dailyStats + "건, 회원 완료 수 " + members + "건";
+  }
+
+  /**
+   * 미션 완료 - 회원 행을 잠그지 않고 중복 완료 / 경험치 중복 지급을 막는다
+   * 1. 일일미션 완료 표시를 원자적으로 변경 (먼저 바꾼 요청만 통과)
+   * 2. ClearMission 유니크 키 (memberId, clearTime, content) 로 한번 더 확인
+   * 3. 레벨 / 경험치 / 완료 수는 compare-and-set 으로 반영, 다른 요청과 겹치면 다시 읽어서 재시도
+   * 2~3 은 한 트랜잭션으로 묶고, 롤백되면 1의 완료 표시도 되돌린다 (중복 완료로 실패한 경우는 그대로 둔다)
    */
-  @Transactional
   public MissionClearResponseDto completeMission(UserDetailsImpl userDetails, MissionRequestDto missionRequestDto) {
 
     String difficulty = missionRequestDto.getDifficulty();
     String clearMissionName = difficulty + missionRequestDto.getMissionName();
-    Member loginMember = memberRepository.findById(userDetails.getId())
-            .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
-    ClearMission clearMission = ClearMission.builder()
-            .memberId(userDetails.getId())
-            .content(missionRequestDto.getMissionName())
-            .clearTime(String.valueOf(LocalDate.now()))
-            .build();
+    Long memberId = userDetails.getId();
 
-    if(!loginMember.getDailyMission().containsKey(clearMissionName)){
+    DailyMissionStore.CompleteResult completeResult = dailyMissionStore.complete(memberId, clearMissionName);
+    if (completeResult == DailyMissionStore.CompleteResult.NOT_FOUND) {
       throw new CustomException(ErrorCode.NOT_FOUND_MISSION);
+    } else if (completeResult == DailyMissionStore.CompleteResult.ALREADY_COMPLETED) {
+      throw new CustomException(ErrorCode.ALREADY_DONE_MISSION);
     }
 
-    if (!loginMember.getDailyMission().get(clearMissionName)) {
-      loginMember.getDailyMission().put(clearMissionName, true);
-      clearMissionRepository.save(clearMission);
-
-      Integer needNextLevelExpBeforeAddExp = expUtil.getNextLevelExp().get(loginMember.getLevel());
-
-      if (difficulty.equals("[상]")) {
-        loginMember.addExp(3);
-        currentExpCompareToNeedNextLevelExp(loginMember, needNextLevelExpBeforeAddExp);
-      } else if (difficulty.equals("[중]")) {
-        loginMember.addExp(2);
-        currentExpCompareToNeedNextLevelExp(loginMember, needNextLevelExpBeforeAddExp);
-      } else {
-        loginMember.addExp(1);
-        currentExpCompareToNeedNextLevelExp(loginMember, needNextLevelExpBeforeAddExp);
+    try {
+      return missionClearTransaction().execute(status ->
+              saveMissionClear(missionRequestDto.getMissionName(), memberId, getMissionExp(difficulty)));
+    } catch (CustomException e) {
+      if (e.getCode() != ErrorCode.ALREADY_DONE_MISSION) {
+        dailyMissionStore.revert(memberId, clearMissionName);
       }
-      Integer needNextLevelExpAfterAddExp = expUtil.getNextLevelExp().get(loginMember.getLevel());
-
-      return MissionClearResponseDto.builder()
-              .missionName(missionRequestDto.getMissionName())
-              .complete(true)
-              .level(loginMember.getLevel())
-              .nextLevelExp(loginMember.getExp())
-              .needNextLevelExp(needNextLevelExpAfterAddExp)
-              .build();
-    } else throw new CustomException(ErrorCode.ALREADY_DONE_MISSION);
+      throw e;
+    } catch (RuntimeException e) {
+      dailyMissionStore.revert(memberId, clearMissionName);
+      throw e;
+    }
+  }
+
+  /**
+   * compare-and-set 재시도 시 다른 요청이 커밋한 경험치를 다시 읽어야 하므로 READ_COMMITTED
+   */
+  private TransactionTemplate missionClearTransaction() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    return transactionTemplate;
+  }
+
+  private MissionClearResponseDto saveMissionClear(String missionName, Long memberId, int gain) {
+    LocalDate today = LocalDate.now();
+    ClearMission clearMission = ClearMission.builder()
+            .memberId(memberId)
+            .content(missionName)
+            .clearTime(String.valueOf(today))
+            .build();
+    try {
+      clearMissionRepository.saveAndFlush(clearMission);
+    } catch (DataIntegrityViolationException e) {
+      throw new CustomException(ErrorCode.ALREADY_DONE_MISSION);
+    }
+    missionDailyStatRepository.increaseClearCount(memberId, today);
+
+    return applyMissionClear(missionName, memberId, gain);
+  }
+
+  private MissionClearResponseDto applyMissionClear(String missionName, Long memberId, int gain) {
+    for (int attempt = 0; attempt < MAX_EXP_UPDATE_ATTEMPTS; attempt++) {
+      MemberRepository.LevelExp current = memberRepository.findLevelExpById(memberId)
+              .orElseThrow(() -> new CustomException(ErrorCode.UNKNOWN_USER));
+      long result = levelCurve.apply(current.getLevel(), current.getExp(), gain);
+      int level = LevelCurve.levelOf(result);
+      if (memberRepository.updateMissionClear(memberId, current.getLevel(), current.getExp(), level, LevelCurve.expOf(result)) == 1) {
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
+        return MissionClearResponseDto.builder()
+                .missionName(missionName)
+                .complete(true)
+                .level(level)
+                .totalClear(current.getTotalClear() + 1)
+                .nextLevelExp(LevelCurve.expOf(result))
+                .needNextLevelExp(levelCurve.getNeedNextLevelExp(level))
+                .build();
+      }
+    }
+    throw new CustomException(ErrorCode.MISSION_CONFLICT);
   }
 
-  private void currentExpCompareToNeedNextLevelExp(Member loginMember, Integer needNextLevelExpBeforeAddExp) {
-    if (loginMember.getExp() == needNextLevelExpBeforeAddExp) {
-      loginMember.levelUp();
-      loginMember.initExp();
-    } else if (loginMember.getExp() > needNextLevelExpBeforeAddExp) {
-      loginMember.levelUp();
-      loginMember.minusExp(needNextLevelExpBeforeAddExp);
+  private int getMissionExp(String difficulty) {
+    if (difficulty.equals("[상]")) {
+      return 3;
+    } else if (difficulty.equals("[중]")) {
+      return 2;
     }
+    return 1;
   }
 
 
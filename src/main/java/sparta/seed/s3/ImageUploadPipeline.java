@@ -0,0 +1,125 @@
+package sparta.seed.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 리사이즈 + S3 업로드를 전용 스레드풀에서 병렬로 처리
+ * 큐가 가득 차면 요청 스레드가 직접 업로드한다 (CallerRunsPolicy) -> 업로드가 밀리면 새 요청도 같이 느려지는 backpressure
+ * 호출한 쪽은 await로 모든 결과를 기다린 뒤 저장한다 (MultipartFile은 요청이 끝나면 지워지므로 요청 안에서 기다려야 함)
+ * 지연 처리 작업은 별도 스레드풀 - 큐가 가득 차면 요청 스레드에서 돌리지 않고 거절한다 (스풀 파일이 남아 있으므로 정리 스케줄러가 다시 넣음)
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+  private final S3Uploader s3Uploader;
+  private final ThreadPoolExecutor executor;
+  private final ThreadPoolExecutor deferredExecutor;
+
+  public ImageUploadPipeline(S3Uploader s3Uploader,
+                             @Value("${image-upload.pool-size:4}") int poolSize,
+                             @Value("${image-upload.queue-capacity:20}") int queueCapacity,
+                             @Value("${image-upload.deferred-pool-size:2}") int deferredPoolSize,
+                             @Value("${image-upload.deferred-queue-capacity:200}") int deferredQueueCapacity) {
+    this.s3Uploader = s3Uploader;
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory("image-upload-"), new ThreadPoolExecutor.CallerRunsPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+    this.deferredExecutor = new ThreadPoolExecutor(deferredPoolSize, deferredPoolSize, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(deferredQueueCapacity), threadFactory("image-deferred-"), new ThreadPoolExecutor.AbortPolicy());
+    this.deferredExecutor.allowCoreThreadTimeOut(true);
+  }
+
+  public CompletableFuture<S3Dto> upload(MultipartFile multipartFile) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return s3Uploader.upload(multipartFile);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, executor);
+  }
+
+  /**
+   * 지연 처리용 업로드 - 큐가 가득 차면 RejectedExecutionException (요청 스레드에서 실행하지 않음)
+   */
+  public CompletableFuture<S3Dto> uploadDeferred(String originalFilename, String contentType, InputStreamSource source) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return s3Uploader.upload(originalFilename, contentType, source);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }, deferredExecutor);
+  }
+
+  public List<CompletableFuture<S3Dto>> uploadAll(List<MultipartFile> multipartFiles) {
+    List<CompletableFuture<S3Dto>> uploads = new ArrayList<>();
+    for (MultipartFile multipartFile : multipartFiles) {
+      uploads.add(upload(multipartFile));
+    }
+    return uploads;
+  }
+
+  /**
+   * 모든 업로드 결과를 요청 순서대로 - 하나라도 실패하면 IOException
+   */
+  public List<S3Dto> await(List<CompletableFuture<S3Dto>> uploads) throws IOException {
+    try {
+      CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) cause).getCause();
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+    List<S3Dto> results = new ArrayList<>();
+    for (CompletableFuture<S3Dto> upload : uploads) {
+      results.add(upload.join());
+    }
+    return results;
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    shutdown(executor);
+    shutdown(deferredExecutor);
+  }
+
+  private static void shutdown(ThreadPoolExecutor executor) throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+      log.warn("이미지 업로드 스레드풀 종료 대기 시간 초과 : {}건 남음", executor.getQueue().size());
+      executor.shutdownNow();
+    }
+  }
+
+  private static ThreadFactory threadFactory(String prefix) {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class S3Dto {
     String fileName;
     String uploadImageUrl;
+    String feedImageUrl;
+    String thumbnailImageUrl;
 }
\ No newline at end of file
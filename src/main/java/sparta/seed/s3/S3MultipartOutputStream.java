@@ -0,0 +1,131 @@
+package sparta.seed.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * S3로 바로 쓰는 OutputStream - 최대 partSize 크기의 버퍼 하나만 메모리에 둔다 (썸네일처럼 작은 파일은 작은 버퍼로 끝남)
+ * 버퍼가 차면 멀티파트 업로드의 파트로 올리고, 닫을 때까지 한번도 안 찼으면 putObject 한번으로 올린다
+ * 닫기 전에 실패하면 abort()로 올라간 파트를 정리해야 한다
+ */
+class S3MultipartOutputStream extends OutputStream {
+  //S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+  static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+  private final AmazonS3 amazonS3;
+  private final String bucket;
+  private final String key;
+  private final String contentType;
+  private final int partSize;
+  private byte[] buffer;
+  private int position;
+  //첫 파트를 올릴 때 시작, 작은 파일은 null로 끝남
+  private String uploadId;
+  private final List<PartETag> partETags = new ArrayList<>();
+  private boolean closed;
+
+  S3MultipartOutputStream(AmazonS3 amazonS3, String bucket, String key, String contentType, int partSize) {
+    this.amazonS3 = amazonS3;
+    this.bucket = bucket;
+    this.key = key;
+    this.contentType = contentType;
+    this.partSize = Math.max(partSize, MIN_PART_SIZE);
+    this.buffer = new byte[INITIAL_BUFFER_SIZE];
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureCapacity();
+    buffer[position++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      ensureCapacity();
+      int count = Math.min(len, buffer.length - position);
+      System.arraycopy(b, off, buffer, position, count);
+      position += count;
+      off += count;
+      len -= count;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (uploadId == null) {
+      ObjectMetadata objectMetadata = metadata();
+      objectMetadata.setContentLength(position);
+      amazonS3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(buffer, 0, position), objectMetadata)
+              .withCannedAcl(CannedAccessControlList.PublicReadWrite));
+      return;
+    }
+    if (position > 0) {
+      uploadPart();
+    }
+    amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+  }
+
+  /**
+   * 업로드 실패 시 - 이미 올라간 파트 삭제
+   */
+  void abort() {
+    closed = true;
+    if (uploadId != null) {
+      amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+    }
+  }
+
+  //버퍼가 찼으면 partSize까지 두배씩 늘리고, partSize에서 찼으면 파트로 올린다
+  private void ensureCapacity() {
+    if (position < buffer.length) {
+      return;
+    }
+    if (buffer.length < partSize) {
+      buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, partSize));
+    } else {
+      uploadPart();
+    }
+  }
+
+  private void uploadPart() {
+    if (uploadId == null) {
+      uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata())
+              .withCannedACL(CannedAccessControlList.PublicReadWrite)).getUploadId();
+    }
+    UploadPartRequest uploadPartRequest = new UploadPartRequest()
+            .withBucketName(bucket)
+            .withKey(key)
+            .withUploadId(uploadId)
+            .withPartNumber(partETags.size() + 1)
+            .withInputStream(new ByteArrayInputStream(buffer, 0, position))
+            .withPartSize(position);
+    partETags.add(amazonS3.uploadPart(uploadPartRequest).getPartETag());
+    position = 0;
+  }
+
+  private ObjectMetadata metadata() {
+    ObjectMetadata objectMetadata = new ObjectMetadata();
+    objectMetadata.setContentType(contentType);
+    return objectMetadata;
+  }
+}
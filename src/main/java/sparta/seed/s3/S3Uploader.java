@@ -1,9 +1,6 @@
 package sparta.seed.s3;
 
 import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import marvin.image.MarvinImage;
@@ -11,21 +8,26 @@ import org.apache.commons.io.FilenameUtils;
 import org.imgscalr.Scalr;
 import org.marvinproject.image.transform.scale.Scale;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.http.HttpStatus;
-import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import sparta.seed.img.service.ImageIndex;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,57 +36,154 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Component
 public class S3Uploader {
+  private static final int FULL_WIDTH = 1920;
+  private static final int FEED_WIDTH = 960;
+  private static final int THUMBNAIL_WIDTH = 320;
+  public static final String FEED_PREFIX = "w960/";
+  public static final String THUMBNAIL_PREFIX = "w320/";
+
   private final AmazonS3Client amazonS3Client;
+  private final ImageIndex imageIndex;
 
   @Value("${cloud.aws.s3.bucket}")
   private String bucket;
 
+  //멀티파트 업로드 파트 크기 = 업로드 하나가 쓰는 버퍼 크기 (최소 5MB)
+  @Value("${cloud.aws.s3.part-size:5242880}")
+  private int partSize;
+
+  /**
+   * 원본(1920) / 피드(960) / 썸네일(320) 세 가지 크기로 올린다
+   * 키 : {fileName}, w960/{fileName}, w320/{fileName}
+   */
   public S3Dto upload(MultipartFile multipartFile) throws IOException {
+    return upload(multipartFile.getOriginalFilename(), multipartFile.getContentType(), multipartFile);
+  }
+
+  /**
+   * 스풀 파일 등 MultipartFile이 아닌 원본 업로드 (지연 처리용)
+   * 원본 해시가 인덱스에 있으면 리사이즈 / 업로드 없이 기존 주소를 돌려준다
+   */
+  public S3Dto upload(String originalFilename, String contentType, InputStreamSource source) throws IOException {
+    String contentHash = imageIndex.hash(source);
+    S3Dto indexed = imageIndex.acquire(contentHash);
+    if (indexed != null) {
+      return indexed;
+    }
+
+    S3Dto uploaded = resizeAndUpload(originalFilename, contentType, source);
+    S3Dto registered = imageIndex.register(contentHash, uploaded);
+    if (registered != uploaded) {
+      // 같은 이미지가 동시에 먼저 등록됨 - 방금 올린 객체는 지운다
+      delete(uploaded);
+    }
+    return registered;
+  }
+
+  /**
+   * 인덱스에서 정리된 이미지의 S3 객체 삭제 (스케줄러 연동) - 정리 대상이 없을때까지 반복
+   */
+  public int deleteOrphans() {
+    int deleted = 0;
+    List<S3Dto> orphans;
+    while (!(orphans = imageIndex.removeOrphans()).isEmpty()) {
+      for (S3Dto orphan : orphans) {
+        delete(orphan);
+      }
+      deleted += orphans.size();
+    }
+    return deleted;
+  }
 
-    String fileName = UUID.randomUUID() + multipartFile.getOriginalFilename();
-    String fileFormatName = multipartFile.getContentType().substring(multipartFile.getContentType().lastIndexOf("/") + 1);
-    MultipartFile resize = resize(fileName, fileFormatName, multipartFile);
-    ObjectMetadata objectMetadata = new ObjectMetadata();
-    objectMetadata.setContentLength(resize.getSize());
-    objectMetadata.setContentType(resize.getContentType());
-    amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, resize.getInputStream(), objectMetadata).withCannedAcl(CannedAccessControlList.PublicReadWrite));
-    String result = amazonS3Client.getUrl(bucket, fileName).toString();
-//    removeNewFile(new File(Objects.requireNonNull(resize.getOriginalFilename())));
-    return new S3Dto(fileName, result);
+  private void delete(S3Dto image) {
+    amazonS3Client.deleteObject(bucket, image.getFileName());
+    amazonS3Client.deleteObject(bucket, FEED_PREFIX + image.getFileName());
+    amazonS3Client.deleteObject(bucket, THUMBNAIL_PREFIX + image.getFileName());
   }
 
-  private MultipartFile resize(String fileName, String fileFormatName, MultipartFile originalImage) throws IOException {
+  private S3Dto resizeAndUpload(String originalFilename, String contentType, InputStreamSource source) throws IOException {
 
-    // 요청 받은 파일로 부터 BufferedImage 객체를 생성합니다.
-    BufferedImage srcImg = ImageIO.read(originalImage.getInputStream());
+    String fileName = UUID.randomUUID() + originalFilename;
+    String fileFormatName = contentType.substring(contentType.lastIndexOf("/") + 1).toLowerCase();
 
-    int demandWidth = 1920;
+    BufferedImage decoded = decode(source, contentType, FULL_WIDTH);
+    BufferedImage full = resize(decoded, FULL_WIDTH);
+    if (full != decoded) {
+      decoded.flush();
+    }
+    BufferedImage feed = resize(full, FEED_WIDTH);
+    BufferedImage thumbnail = resize(feed, THUMBNAIL_WIDTH);
+    try {
+      return S3Dto.builder()
+              .fileName(fileName)
+              .uploadImageUrl(write(fileName, full, fileFormatName, contentType))
+              .feedImageUrl(write(FEED_PREFIX + fileName, feed, fileFormatName, contentType))
+              .thumbnailImageUrl(write(THUMBNAIL_PREFIX + fileName, thumbnail, fileFormatName, contentType))
+              .build();
+    } finally {
+      full.flush();
+      feed.flush();
+      thumbnail.flush();
+    }
+  }
+
+  /**
+   * 인코딩 결과를 메모리에 모으지 않고 파트 크기만큼씩 바로 S3로 올립니다.
+   */
+  private String write(String key, BufferedImage image, String fileFormatName, String contentType) throws IOException {
+    S3MultipartOutputStream outputStream = new S3MultipartOutputStream(amazonS3Client, bucket, key, contentType, partSize);
+    try {
+      if (!ImageIO.write(image, fileFormatName, outputStream)) {
+        throw new IOException("지원하지 않는 이미지 형식입니다 : " + fileFormatName);
+      }
+      outputStream.close();
+    } catch (IOException | RuntimeException e) {
+      outputStream.abort();
+      throw e;
+    }
+    return amazonS3Client.getUrl(bucket, key).toString();
+  }
+
+  /**
+   * 요청 받은 파일을 스트림으로 읽어서 BufferedImage 객체를 생성합니다.
+   * 원본이 목표 너비의 2배 이상이면 서브샘플링으로 읽어서 목표 너비 이상 중 가장 작은 크기로 디코딩합니다. (4000px -> 2000px, 메모리 1/4)
+   */
+  private BufferedImage decode(InputStreamSource originalImage, String contentType, int demandWidth) throws IOException {
+    try (InputStream inputStream = originalImage.getInputStream();
+         ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+      if (!readers.hasNext()) {
+        throw new IOException("지원하지 않는 이미지 형식입니다 : " + contentType);
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(imageInputStream, true, true);
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = reader.getWidth(0) / demandWidth;
+        if (subsampling >= 2) {
+          param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  private BufferedImage resize(BufferedImage srcImg, int demandWidth) {
 
     // 원본 이미지의 너비와 높이 입니다.
     int originWidth = srcImg.getWidth();
     int originHeight = srcImg.getHeight();
 
-    // 원본 너비를 기준으로 하여 썸네일의 비율로 높이를 계산합니다.
-    int newWidth;
-    int newHeight;
-
     // 원본 넓이가 더 작을경우 리사이징 안함.
     if (demandWidth >= originWidth) {
-      newWidth = originWidth;
-      newHeight = originHeight;
-    } else {
-      newWidth = demandWidth;
-      newHeight = (demandWidth * originHeight) / originWidth;
+      return srcImg;
     }
 
-    BufferedImage destImg = Scalr.resize(srcImg, newWidth, newHeight);
-
-
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    ImageIO.write(destImg, fileFormatName.toLowerCase(), byteArrayOutputStream);
-    byteArrayOutputStream.flush();
-    destImg.flush();
-    return new MockMultipartFile(fileName, byteArrayOutputStream.toByteArray());
+    // 원본 너비를 기준으로 하여 썸네일의 비율로 높이를 계산합니다.
+    int newHeight = (demandWidth * originHeight) / originWidth;
+    return Scalr.resize(srcImg, demandWidth, newHeight);
   }
 
   private void removeNewFile(File targetFile) {
@@ -8,6 +8,9 @@ import sparta.seed.community.repository.ProofRepository;
 import sparta.seed.exception.CustomException;
 import sparta.seed.exception.ErrorCode;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static sparta.seed.sse.SseController.sseEmitters;
 
 @RequiredArgsConstructor
@@ -31,4 +34,23 @@ public class NotificationService {
 			}
 		}
 	}
+
+	/**
+	 * 지연 처리 이미지 완료 / 실패 알림 - data : {target, id, status, imgUrl}
+	 */
+	public void notifyImageProcessed(Long userId, String target, Long targetId, String status, String imgUrl) {
+		if (sseEmitters.containsKey(userId)) {
+			SseEmitter sseEmitter = sseEmitters.get(userId);
+			Map<String, Object> data = new HashMap<>();
+			data.put("target", target);
+			data.put("id", targetId);
+			data.put("status", status);
+			data.put("imgUrl", imgUrl);
+			try {
+				sseEmitter.send(SseEmitter.event().name("imageProcessed").data(data));
+			} catch (Exception e) {
+				sseEmitters.remove(userId);
+			}
+		}
+	}
 }
@@ -0,0 +1,75 @@
+package sparta.seed.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 레벨별 다음 레벨까지 필요한 경험치 테이블
+ * NEXT_LEVEL_EXP[level - 1] = level에서 level + 1로 가는데 필요한 경험치, 테이블이 끝나면 최대 레벨
+ * 결과는 객체 대신 long 하나에 (레벨 << 32 | 경험치)로 담아서 돌려준다 - levelOf / expOf로 꺼내기
+ */
+@Component
+public class LevelCurve {
+  public static final int[] NEXT_LEVEL_EXP = {1, 1, 2, 5, 5, 6, 8, 8, 10, 12};
+
+  private final int[] nextLevelExp;
+  private final int maxLevel;
+
+  public LevelCurve(@Value("${level.next-level-exp:}") int[] nextLevelExp) {
+    this.nextLevelExp = nextLevelExp == null || nextLevelExp.length == 0
+            ? NEXT_LEVEL_EXP.clone()
+            : Arrays.copyOf(nextLevelExp, nextLevelExp.length);
+    this.maxLevel = this.nextLevelExp.length + 1;
+  }
+
+  /**
+   * 다음 레벨까지 필요한 경험치 (최대 레벨이면 0)
+   */
+  public int getNeedNextLevelExp(int level) {
+    if (level < 1 || level >= maxLevel) {
+      return 0;
+    }
+    return nextLevelExp[level - 1];
+  }
+
+  public int getMaxLevel() {
+    return maxLevel;
+  }
+
+  /**
+   * 경험치를 더하고 레벨업 처리 - 한번에 여러 레벨이 오를 수 있다
+   */
+  public long apply(int level, int exp, int gain) {
+    exp += gain;
+    while (level >= 1 && level < maxLevel && exp >= nextLevelExp[level - 1]) {
+      exp -= nextLevelExp[level - 1];
+      level++;
+    }
+    return pack(level, exp);
+  }
+
+  /**
+   * 여러 명에게 한번에 경험치 지급 - 넘겨받은 배열을 그대로 갱신한다
+   */
+  public void applyAll(int[] levels, int[] exps, int[] gains) {
+    for (int i = 0; i < levels.length; i++) {
+      long result = apply(levels[i], exps[i], gains[i]);
+      levels[i] = levelOf(result);
+      exps[i] = expOf(result);
+    }
+  }
+
+  public static int levelOf(long result) {
+    return (int) (result >>> 32);
+  }
+
+  public static int expOf(long result) {
+    return (int) result;
+  }
+
+  private static long pack(int level, int exp) {
+    return ((long) level << 32) | (exp & 0xFFFFFFFFL);
+  }
+}
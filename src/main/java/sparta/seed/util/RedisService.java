@@ -1,17 +1,50 @@
 package sparta.seed.util;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
+  private static final String MISSION_SET_PREFIX = "owner_";
+  //필드 값이 expected 일때만 value로 변경 (1 : 변경, 0 : 다른 값, -1 : 필드 없음)
+  private static final RedisScript<Long> COMPARE_AND_SET_HASH = new DefaultRedisScript<>(
+          "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+          "if not current then return -1 end " +
+          "if current ~= ARGV[2] then return 0 end " +
+          "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) " +
+          "return 1", Long.class);
+  //이미 있는 멤버일 때만 점수 증감 (ZADD XX INCR) - 마감 / 삭제로 빠진 멤버를 다시 넣지 않는다 (1 : 변경, 0 : 멤버 없음)
+  private static final RedisScript<Long> INCREMENT_EXISTING_ZSET = new DefaultRedisScript<>(
+          "if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then return 0 end " +
+          "redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]) " +
+          "return 1", Long.class);
+
   private final RedisTemplate<String, String> redisTemplate;
 
   public void setValues(String key, String data, Duration duration) {
@@ -19,10 +52,49 @@ public class RedisService {
     values.set(key, data, duration);
   }
 
+  /**
+   * 키가 없을 때만 저장 - 여러 서버 중 한번만 실행할 작업 표시용
+   */
+  public boolean setValuesIfAbsent(String key, String data) {
+    return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, data));
+  }
+
   public void deleteValues(String key) {
     redisTemplate.delete(key);
   }
 
+  public Map<String, String> getHash(String key) {
+    HashOperations<String, String, String> values = redisTemplate.opsForHash();
+    return values.entries(key);
+  }
+
+  public String getHashValue(String key, String field) {
+    HashOperations<String, String, String> values = redisTemplate.opsForHash();
+    return values.get(key, field);
+  }
+
+  public void putHash(String key, String field, String value) {
+    HashOperations<String, String, String> values = redisTemplate.opsForHash();
+    values.put(key, field, value);
+  }
+
+  /**
+   * 해시 필드 compare-and-set (Lua 스크립트라 서버가 여러대여도 한번만 성공)
+   */
+  public long compareAndSetHash(String key, String field, String expected, String value) {
+    Long result = redisTemplate.execute(COMPARE_AND_SET_HASH, List.of(key), field, expected, value);
+    return result == null ? -1 : result;
+  }
+
+  /**
+   * 해시를 채우고 만료시각 지정
+   */
+  public void putAllHash(String key, Map<String, String> data, Instant expireAt) {
+    HashOperations<String, String, String> values = redisTemplate.opsForHash();
+    values.putAll(key, data);
+    redisTemplate.expireAt(key, Date.from(expireAt));
+  }
+
   public void addSlang(String data) {
     SetOperations<String, String> values = redisTemplate.opsForSet();
     values.add("slang", data);
@@ -33,17 +105,125 @@ public class RedisService {
     return values.members("slang");
   }
 
+  public void publish(String channel, String message) {
+    redisTemplate.convertAndSend(channel, message);
+  }
+
   public void addMission(String memberId , String missionId) {
+    addMissions(memberId, missionId);
+  }
+
+  /**
+   * 중복미션 방지 데이터 - 초기화 주기(일~수 / 목~토)별 키에 저장하고 다음 주기 시작에 만료
+   */
+  public void addMissions(String memberId, String... missionIds) {
     SetOperations<String, String> values = redisTemplate.opsForSet();
-    values.add("owner_"+memberId, missionId);
+    String key = missionSetKey(memberId);
+    values.add(key, missionIds);
+    redisTemplate.expireAt(key, Date.from(missionPeriodEnd(LocalDate.now()).atStartOfDay(ZoneId.systemDefault()).toInstant()));
   }
 
   public Set<String> getMissionSet(String memberId) {
     SetOperations<String, String> values = redisTemplate.opsForSet();
-    return values.members("owner_"+memberId);
+    return values.members(missionSetKey(memberId));
   }
 
   public void deleteMissionSet(String memberId) {
-    redisTemplate.delete("owner_"+memberId);
+    redisTemplate.delete(missionSetKey(memberId));
+  }
+
+  /**
+   * 키 일괄 삭제 (마이그레이션용) - KEYS 대신 SCAN으로 훑으면서 batchSize개 모일 때마다 UNLINK로 비동기 삭제
+   * legacyOnly면 주기 표시가 없는 예전 owner_{id} 키만 지운다
+   */
+  public long purgeMissionSets(boolean legacyOnly, int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be positive : " + batchSize);
+    }
+    Long deleted = redisTemplate.execute((RedisCallback<Long>) connection -> {
+      long count = 0;
+      List<byte[]> batch = new ArrayList<>(batchSize);
+      try (Cursor<byte[]> cursor = connection.scan(ScanOptions.scanOptions().match(MISSION_SET_PREFIX + "*").count(batchSize).build())) {
+        while (cursor.hasNext()) {
+          byte[] key = cursor.next();
+          if (!legacyOnly || !new String(key, StandardCharsets.UTF_8).contains(":")) {
+            batch.add(key);
+          }
+          if (batch.size() == batchSize) {
+            count += unlink(connection, batch);
+          }
+        }
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+      return count + unlink(connection, batch);
+    });
+    return deleted == null ? 0 : deleted;
+  }
+
+  private long unlink(RedisConnection connection, List<byte[]> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+    Long unlinked = connection.unlink(keys.toArray(new byte[0][]));
+    keys.clear();
+    return unlinked == null ? 0 : unlinked;
+  }
+
+  private String missionSetKey(String memberId) {
+    return MISSION_SET_PREFIX + memberId + ":" + missionPeriodStart(LocalDate.now());
+  }
+
+  // 일요일 / 목요일 0시에 주기가 바뀐다
+  private LocalDate missionPeriodStart(LocalDate today) {
+    DayOfWeek dayOfWeek = today.getDayOfWeek();
+    if (dayOfWeek == DayOfWeek.SUNDAY || dayOfWeek.compareTo(DayOfWeek.THURSDAY) < 0) {
+      return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+    }
+    return today.with(TemporalAdjusters.previousOrSame(DayOfWeek.THURSDAY));
+  }
+
+  private LocalDate missionPeriodEnd(LocalDate today) {
+    LocalDate start = missionPeriodStart(today);
+    return start.getDayOfWeek() == DayOfWeek.SUNDAY ? start.plusDays(4) : start.plusDays(3);
+  }
+
+  public void addZSet(String key, String member, double score) {
+    ZSetOperations<String, String> values = redisTemplate.opsForZSet();
+    values.add(key, member, score);
+  }
+
+  public long incrementZSetScore(String key, String member, double delta) {
+    Long result = redisTemplate.execute(INCREMENT_EXISTING_ZSET, List.of(key), member, String.valueOf(delta));
+    return result == null ? 0 : result;
+  }
+
+  public void removeZSet(String key, String member) {
+    ZSetOperations<String, String> values = redisTemplate.opsForZSet();
+    values.remove(key, member);
+  }
+
+  public Set<String> getZSetDescByScore(String key, double min, long count) {
+    ZSetOperations<String, String> values = redisTemplate.opsForZSet();
+    return values.reverseRangeByScore(key, min, Double.POSITIVE_INFINITY, 0, count);
+  }
+
+  public Set<String> getZSetAscByScore(String key, double min, long count) {
+    ZSetOperations<String, String> values = redisTemplate.opsForZSet();
+    return values.rangeByScore(key, min, Double.POSITIVE_INFINITY, 0, count);
+  }
+
+  /**
+   * 임시 키에 전부 채운 뒤 RENAME으로 교체 - 재구성 중에도 조회는 이전 데이터를 본다
+   */
+  public void replaceZSet(String key, Set<ZSetOperations.TypedTuple<String>> tuples) {
+    if (tuples.isEmpty()) {
+      redisTemplate.delete(key);
+      return;
+    }
+    String tempKey = key + ":rebuild";
+    redisTemplate.delete(tempKey);
+    redisTemplate.opsForZSet().add(tempKey, tuples);
+    redisTemplate.rename(tempKey, key);
   }
 }
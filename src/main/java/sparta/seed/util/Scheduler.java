@@ -2,33 +2,47 @@ package sparta.seed.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import sparta.seed.campaign.crawling.AirQualityApi;
 import sparta.seed.campaign.service.CampaignService;
-import sparta.seed.member.domain.Member;
+import sparta.seed.community.repository.CommunityRepository;
+import sparta.seed.community.repository.ProofRepository;
+import sparta.seed.community.service.CommunityRankingService;
+import sparta.seed.img.service.DeferredImageService;
 import sparta.seed.member.repository.MemberRepository;
+import sparta.seed.mission.repository.DailyMissionStore;
+import sparta.seed.s3.S3Uploader;
 
-import javax.transaction.Transactional;
 import java.io.IOException;
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class Scheduler {
+	private static final String COUNTER_BACKFILL_KEY = "migration:counter-backfill";
+	private static final String TOTAL_CLEAR_BACKFILL_KEY = "migration:total-clear-backfill";
+
 	private final AirQualityApi api;
+	private final CampaignService campaignService;
+	private final CommunityRepository communityRepository;
+	private final ProofRepository proofRepository;
+	private final CommunityRankingService communityRankingService;
 	private final MemberRepository memberRepository;
+	private final DailyMissionStore dailyMissionStore;
+	private final DeferredImageService deferredImageService;
+	private final S3Uploader s3Uploader;
 	private final RedisService redisService;
-	private final CampaignService campaignService;
 
-	@Transactional
+	/**
+	 * 일일미션 초기화 - 레디스 저장소는 자정에 만료되므로 JPA 저장소일 때만 실제로 지운다
+	 */
 	@Scheduled(cron = "0 0 0 * * *")
 	public void removeDailyMissions() {
-		List<Member> allMembers = memberRepository.findAll();
-		for (Member member : allMembers) {
-			member.getDailyMission().clear();
-		}
+		dailyMissionStore.resetAll();
 	}
 
 	@Scheduled(cron = "0 40 * * * *")
@@ -47,12 +61,81 @@ public class Scheduler {
 		}
 	}
 
-	@Scheduled(cron = "0 0 0 * * 0,4")
-	public void initializationWeekMissions() {
-		List<Member> allMembers = memberRepository.findAll();
-		for (Member member : allMembers) {
-			redisService.deleteMissionSet(String.valueOf(member.getId()));
+	/**
+	 * 카운터 컬럼 도입 후 첫 기동 시 한번만 보정 - 기존 행은 0으로 시작하므로 야간 보정 전까지 모집인원 제한이 안 걸린다
+	 * 여러 서버가 동시에 떠도 레디스 표시 키로 한 서버만 실행
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillCounters() {
+		runOnce(COUNTER_BACKFILL_KEY, this::syncCounters);
+	}
+
+	/**
+	 * Member.totalClear 도입 후 첫 기동 시 한번만 ClearMission 기준으로 채운다 (기존 회원은 0으로 시작하므로)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillTotalClear() {
+		runOnce(TOTAL_CLEAR_BACKFILL_KEY, () -> log.info("회원 미션 완료 수 보정 : {}건", memberRepository.syncTotalClear()));
+	}
+
+	/**
+	 * 여러 서버 중 한 서버만 한번 실행 - 실패하면 표시 키를 지워 다음 기동 때 다시 시도
+	 */
+	private void runOnce(String key, Runnable task) {
+		if (!redisService.setValuesIfAbsent(key, String.valueOf(LocalDateTime.now()))) {
+			return;
 		}
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			redisService.deleteValues(key);
+			throw e;
+		}
+	}
+
+	/**
+	 * 참가자 / 인증글 / 좋아요 / 댓글 카운터 보정 (회원탈퇴 등 벌크 삭제로 어긋난 값 복구)
+	 */
+	@Scheduled(cron = "0 30 4 * * *")
+	public void syncCounters() {
+		communityRepository.syncParticipantCount();
+		communityRepository.syncProofCount();
+		proofRepository.syncHeartCount();
+		proofRepository.syncCommentCount();
+		log.info("카운터 보정 완료");
+	}
+
+	/**
+	 * 인기그룹 / 종료임박그룹 랭킹 재구성
+	 */
+	@Scheduled(cron = "0 1 * * * *")
+	public void rebuildCommunityRanking() {
+		communityRankingService.rebuild();
+	}
+
+	/**
+	 * 이미지 지연 처리 정리 - 재시작 / 큐 거절로 빠진 작업을 다시 넣고, 롤백 등으로 처리되지 못한 원본 삭제
+	 */
+	@Scheduled(cron = "0 */10 * * * *")
+	public void cleanUpImageSpool() {
+		deferredImageService.recoverPending();
+		deferredImageService.cleanUpSpool();
+	}
+
+	/**
+	 * 재시작 전에 처리하지 못한 이미지 지연 처리 작업 다시 넣기
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void recoverImageJobs() {
+		deferredImageService.recoverPending();
+	}
+
+	/**
+	 * 아무도 쓰지 않는 업로드 이미지 삭제 (중복 제거 인덱스 refCount 0)
+	 */
+	@Scheduled(cron = "0 50 4 * * *")
+	public void deleteOrphanImages() {
+		log.info("사용하지 않는 이미지 삭제 : {}개", s3Uploader.deleteOrphans());
 	}
 
 	@Scheduled(cron = "0 0 5 1 * *")
@@ -0,0 +1,160 @@
+package sparta.seed.util;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 비속어 사전으로 만든 Aho-Corasick 오토마톤
+ * 입력 문자열을 한번만 훑어서 모든 비속어를 찾는다. 만든 뒤에는 변경하지 않으므로 여러 스레드에서 같이 써도 된다.
+ */
+public class SlangMatcher {
+
+  private static final SlangMatcher EMPTY = new SlangMatcher(new ArrayList<>());
+
+  //노드별 자식 (문자 -> 노드 번호), 0번이 루트
+  private final List<Map<Character, Integer>> children = new ArrayList<>();
+  //실패 링크
+  private int[] fail;
+  //노드에서 끝나는 비속어, 없으면 null
+  private final List<String> words = new ArrayList<>();
+  //실패 링크를 따라가며 만나는 가장 가까운 비속어 노드, 없으면 -1
+  private int[] outputLink;
+
+  private SlangMatcher(Collection<String> dictionary) {
+    newNode();
+    for (String word : dictionary) {
+      if (word != null && !word.isEmpty()) {
+        insert(word);
+      }
+    }
+    buildLinks();
+  }
+
+  public static SlangMatcher of(Collection<String> dictionary) {
+    return new SlangMatcher(dictionary);
+  }
+
+  public static SlangMatcher empty() {
+    return EMPTY;
+  }
+
+  /**
+   * 비속어가 하나라도 있는지 - 처음 발견하면 바로 리턴
+   */
+  public boolean contains(String text) {
+    if (text == null) {
+      return false;
+    }
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      state = next(state, text.charAt(i));
+      if (words.get(state) != null || outputLink[state] != -1) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 발견된 모든 비속어와 위치
+   */
+  public List<Match> scan(String text) {
+    List<Match> matches = new ArrayList<>();
+    if (text == null) {
+      return matches;
+    }
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      state = next(state, text.charAt(i));
+      int node = words.get(state) != null ? state : outputLink[state];
+      while (node != -1) {
+        String word = words.get(node);
+        matches.add(new Match(word, i + 1 - word.length(), i + 1));
+        node = outputLink[node];
+      }
+    }
+    return matches;
+  }
+
+  public int size() {
+    return (int) words.stream().filter(word -> word != null).count();
+  }
+
+  private int next(int state, char c) {
+    while (true) {
+      Integer child = children.get(state).get(c);
+      if (child != null) {
+        return child;
+      }
+      if (state == 0) {
+        return 0;
+      }
+      state = fail[state];
+    }
+  }
+
+  private int newNode() {
+    children.add(new HashMap<>());
+    words.add(null);
+    return children.size() - 1;
+  }
+
+  private void insert(String word) {
+    int state = 0;
+    for (int i = 0; i < word.length(); i++) {
+      char c = word.charAt(i);
+      Integer child = children.get(state).get(c);
+      if (child == null) {
+        child = newNode();
+        children.get(state).put(c, child);
+      }
+      state = child;
+    }
+    words.set(state, word);
+  }
+
+  private void buildLinks() {
+    fail = new int[children.size()];
+    outputLink = new int[children.size()];
+    outputLink[0] = -1;
+
+    Queue<Integer> queue = new ArrayDeque<>();
+    for (int child : children.get(0).values()) {
+      fail[child] = 0;
+      outputLink[child] = -1;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (Map.Entry<Character, Integer> entry : children.get(state).entrySet()) {
+        int child = entry.getValue();
+        int failState = next(fail[state], entry.getKey());
+        fail[child] = failState;
+        outputLink[child] = words.get(failState) != null ? failState : outputLink[failState];
+        queue.add(child);
+      }
+    }
+  }
+
+  @Getter
+  public static class Match {
+    private final String word;
+    //시작 위치 (포함)
+    private final int start;
+    //끝 위치 (미포함)
+    private final int end;
+
+    public Match(String word, int start, int end) {
+      this.word = word;
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
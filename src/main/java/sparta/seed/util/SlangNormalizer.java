@@ -0,0 +1,103 @@
+package sparta.seed.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 비속어 검사용 문자열 정규화
+ * 1. 제로폭 문자 제거
+ * 2. 한 글자씩 띄어 쓴 부분만 붙이기 ('시 발' -> '시발', '우리 시 발전'은 그대로) - 단어 경계를 넘는 매칭 방지
+ * 3. 호환용 자모를 음절로 조합 ('ㅅㅣㅂㅏㄹ' -> '시발') - NFKC는 받침을 조합하지 못하므로 직접 조합
+ * 4. NFKC (전각 -> 반각) + 소문자
+ */
+public class SlangNormalizer {
+  private static final char SYLLABLE_BASE = '가';
+  private static final char VOWEL_FIRST = 'ㅏ';
+  private static final char VOWEL_LAST = 'ㅣ';
+  private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+  //0번은 받침 없음
+  private static final String JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+  private SlangNormalizer() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String composed = composeJamo(joinSpacedLetters(removeZeroWidth(text)));
+    return Normalizer.normalize(composed, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 공백으로 나눈 단어 중 앞뒤가 모두 한 글자인 곳만 공백을 없애고, 나머지 공백은 하나로 줄인다
+   */
+  static String joinSpacedLetters(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    int previousLength = 0;
+    int i = 0;
+    while (i < text.length()) {
+      while (i < text.length() && isSpace(text.charAt(i))) {
+        i++;
+      }
+      int start = i;
+      while (i < text.length() && !isSpace(text.charAt(i))) {
+        i++;
+      }
+      if (start == i) {
+        break;
+      }
+      int length = text.codePointCount(start, i);
+      if (previousLength > 0 && !(previousLength == 1 && length == 1)) {
+        sb.append(' ');
+      }
+      sb.append(text, start, i);
+      previousLength = length;
+    }
+    return sb.toString();
+  }
+
+  /**
+   * 초성 + 중성 (+ 뒤에 모음이 오지 않는 종성)을 한 음절로 조합
+   */
+  static String composeJamo(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    int i = 0;
+    while (i < text.length()) {
+      char c = text.charAt(i);
+      int choseong = CHOSEONG.indexOf(c);
+      if (choseong < 0 || i + 1 >= text.length() || !isVowel(text.charAt(i + 1))) {
+        sb.append(c);
+        i++;
+        continue;
+      }
+      int jungseong = text.charAt(i + 1) - VOWEL_FIRST;
+      int jongseong = 0;
+      if (i + 2 < text.length() && !(i + 3 < text.length() && isVowel(text.charAt(i + 3)))) {
+        jongseong = Math.max(JONGSEONG.indexOf(text.charAt(i + 2)), 0);
+      }
+      sb.append((char) (SYLLABLE_BASE + (choseong * 21 + jungseong) * 28 + jongseong));
+      i += jongseong > 0 ? 3 : 2;
+    }
+    return sb.toString();
+  }
+
+  private static String removeZeroWidth(String text) {
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c != '\u200B' && c != '\u200C' && c != '\u200D' && c != '\uFEFF') {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static boolean isVowel(char c) {
+    return c >= VOWEL_FIRST && c <= VOWEL_LAST;
+  }
+
+  private static boolean isSpace(char c) {
+    return Character.isWhitespace(c) || Character.isSpaceChar(c);
+  }
+}
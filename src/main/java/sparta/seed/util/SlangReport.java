@@ -0,0 +1,42 @@
+package sparta.seed.util;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 필드 비속어 검사 결과
+ */
+@Getter
+public class SlangReport {
+  private final List<Offense> offenses = new ArrayList<>();
+  //검사에 걸린 시간
+  private final long elapsedNanos;
+
+  public SlangReport(List<Offense> offenses, long elapsedNanos) {
+    this.offenses.addAll(offenses);
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public boolean isClean() {
+    return offenses.isEmpty();
+  }
+
+  @Getter
+  public static class Offense {
+    //checkAll에 넘긴 필드 순서
+    private final int field;
+    private final String word;
+    //정규화된 필드 문자열 기준 위치
+    private final int start;
+    private final int end;
+
+    public Offense(int field, String word, int start, int end) {
+      this.field = field;
+      this.word = word;
+      this.start = start;
+      this.end = end;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package sparta.seed.community.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import sparta.seed.community.domain.Community;
+import sparta.seed.community.domain.Heart;
+import sparta.seed.community.domain.Proof;
+import sparta.seed.community.domain.dto.requestdto.CommunitySearchCondition;
+import sparta.seed.community.domain.dto.responsedto.CommunityCountDto;
+import sparta.seed.config.QueryDslConfig;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 조회 쿼리 수 회귀 테스트 - count 쿼리 / N+1 이 다시 생기면 실패
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QueryDslConfig.class)
+class CommunityQueryCountTest {
+
+  @Autowired
+  private EntityManager em;
+  @Autowired
+  private CommunityRepository communityRepository;
+  @Autowired
+  private ProofRepository proofRepository;
+
+  private Statistics statistics;
+  private Community first;
+
+  @BeforeEach
+  void setUp() {
+    for (int i = 0; i < 15; i++) {
+      Community community = Community.builder()
+              .title("캠페인" + i)
+              .nickname("작성자")
+              .memberId(1L)
+              .content("내용")
+              .startDate(String.valueOf(LocalDate.now()))
+              .endDate(String.valueOf(LocalDate.now().plusDays(7)))
+              .limitScore(10)
+              .limitParticipants(10)
+              .build();
+      em.persist(community);
+      if (first == null) {
+        first = community;
+      }
+    }
+    // 좋아요 0개 / 1개 / 2개인 인증글
+    for (int hearts = 0; hearts < 3; hearts++) {
+      Proof proof = Proof.builder().memberId(1L).nickname("작성자").title("인증").content("내용").community(first).build();
+      em.persist(proof);
+      for (long memberId = 1; memberId <= hearts; memberId++) {
+        em.persist(Heart.builder().proof(proof).memberId(memberId).build());
+      }
+    }
+    em.flush();
+    em.clear();
+
+    statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void getAllCommunity() {
+    List<CommunityCountDto> results = communityRepository.getAllCommunity(PageRequest.of(0, 10), new CommunitySearchCondition());
+
+    assertEquals(11, results.size());
+    // 목록 1번 + 인증글 좋아요 집계 1번, count 쿼리 없음
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void getAllCommunityWithCursor() {
+    CommunitySearchCondition condition = new CommunitySearchCondition();
+    condition.setCursor(first.getId() + 5);
+
+    List<CommunityCountDto> results = communityRepository.getAllCommunity(PageRequest.of(0, 10), condition);
+
+    assertEquals(5, results.size());
+    assertTrue(results.stream().allMatch(result -> result.getCommunity().getId() < condition.getCursor()));
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void countOfCertifiedProof() {
+    Community community = em.getReference(Community.class, first.getId());
+
+    assertEquals(2, proofRepository.countOfCertifiedProofByOnePeople(community));
+    assertEquals(1, proofRepository.countOfCertifiedProofByMoreThanTwoPeople(community));
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void proofSlice() {
+    Slice<Proof> slice = proofRepository.findSliceByCommunity_Id(first.getId(), PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+    assertEquals(2, slice.getContent().size());
+    assertTrue(slice.hasNext());
+    // Slice는 size + 1개만 조회하고 count 쿼리를 날리지 않는다
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+}
@@ -0,0 +1,70 @@
+package sparta.seed.community.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sparta.seed.community.repository.SlangRepository;
+import sparta.seed.exception.CustomException;
+import sparta.seed.exception.ErrorCode;
+import sparta.seed.util.RedisService;
+import sparta.seed.util.SlangReport;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlangServiceTest {
+
+  private SlangService slangService;
+
+  @BeforeEach
+  void setUp() {
+    RedisService redisService = new RedisService(null) {
+      @Override
+      public Set<String> getSlangSet() {
+        return Set.of("시발", "ㅅㅂ");
+      }
+    };
+    SlangRepository slangRepository = mock(SlangRepository.class);
+    when(slangRepository.findAll()).thenReturn(List.of());
+    slangService = new SlangService(slangRepository, redisService, null);
+    assertTrue(slangService.reloadSlang());
+  }
+
+  @Test
+  void checkAllClean() {
+    assertDoesNotThrow(() -> slangService.checkAll("오늘의 인증", "우리 시 발전을 위해"));
+  }
+
+  @Test
+  void checkAllDiscoversEvasion() {
+    CustomException e = assertThrows(CustomException.class, () -> slangService.checkAll("제목", "ㅅㅣㅂㅏㄹ"));
+    assertEquals(ErrorCode.DISCOVER_SLANG, e.getCode());
+    assertThrows(CustomException.class, () -> slangService.checkAll("시 발"));
+    assertThrows(CustomException.class, () -> slangService.checkAll("ㅅ ㅂ"));
+  }
+
+  @Test
+  void noMatchAcrossFields() {
+    assertDoesNotThrow(() -> slangService.checkAll("시", "발"));
+  }
+
+  @Test
+  void scanAllReportsField() {
+    SlangReport report = slangService.scanAll("제목", "내용 시발");
+
+    assertEquals(1, report.getOffenses().size());
+    assertEquals(1, report.getOffenses().get(0).getField());
+    assertEquals("시발", report.getOffenses().get(0).getWord());
+  }
+
+  @Test
+  void notLoaded() {
+    SlangService notLoaded = new SlangService(mock(SlangRepository.class), new RedisService(null), null);
+
+    CustomException e = assertThrows(CustomException.class, () -> notLoaded.checkAll("내용"));
+    assertEquals(ErrorCode.SLANG_NOT_READY, e.getCode());
+  }
+}
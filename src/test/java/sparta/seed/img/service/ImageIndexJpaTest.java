@@ -0,0 +1,155 @@
+package sparta.seed.img.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sparta.seed.config.QueryDslConfig;
+import sparta.seed.img.domain.ImageObject;
+import sparta.seed.img.repository.ImageObjectRepository;
+import sparta.seed.s3.S3Dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 중복 제거 인덱스 refCount 회귀 테스트 - insert ignore 때문에 H2 MySQL 모드 사용
+ * refCount 변경은 요청 트랜잭션과 별개로 커밋되므로 테스트 트랜잭션 없이 실행하고 매번 지운다
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:image-index;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImageIndexJpaTest {
+
+  @Autowired
+  private ImageObjectRepository imageObjectRepository;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private ImageIndex imageIndex;
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    imageIndex = new ImageIndex(imageObjectRepository, new SimpleMeterRegistry(), 10, 24);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    imageObjectRepository.deleteAll();
+  }
+
+  @Test
+  void uploadNewImageInsideTransaction() {
+    S3Dto uploaded = s3Dto("a");
+
+    // S3Uploader.upload 순서 (조회 -> 업로드 -> 등록) 를 요청 트랜잭션 안에서
+    S3Dto registered = transactionTemplate.execute(status -> {
+      assertNull(imageIndex.acquire("hash-a"));
+      return imageIndex.register("hash-a", uploaded);
+    });
+
+    assertSame(uploaded, registered);
+    assertEquals(1, refCount("hash-a"));
+  }
+
+  @Test
+  void reuseInsideTransaction() {
+    imageIndex.register("hash-a", s3Dto("a"));
+
+    S3Dto reused = transactionTemplate.execute(status -> imageIndex.acquire("hash-a"));
+
+    assertEquals("https://s3/a.png", reused.getUploadImageUrl());
+    assertEquals(2, refCount("hash-a"));
+  }
+
+  @Test
+  void registerLosesInsertRace() {
+    imageIndex.register("hash-a", s3Dto("a"));
+
+    S3Dto registered = imageIndex.register("hash-a", s3Dto("b"));
+
+    assertEquals("https://s3/a.png", registered.getUploadImageUrl());
+    assertEquals(2, refCount("hash-a"));
+  }
+
+  @Test
+  void acquireRevertedOnRollback() {
+    imageIndex.register("hash-a", s3Dto("a"));
+
+    transactionTemplate.execute(status -> {
+      assertNotNull(imageIndex.acquire("hash-a"));
+      status.setRollbackOnly();
+      return null;
+    });
+
+    assertEquals(1, refCount("hash-a"));
+  }
+
+  @Test
+  void releaseAfterCommit() {
+    imageIndex.register("hash-a", s3Dto("a"));
+
+    transactionTemplate.execute(status -> {
+      imageIndex.release("https://s3/a.png");
+      return null;
+    });
+    assertEquals(0, refCount("hash-a"));
+
+    // 인덱스에 없는 주소 / 이미 0인 이미지는 그대로
+    imageIndex.release("https://s3/unknown.png");
+    imageIndex.release("https://s3/a.png");
+    assertEquals(0, refCount("hash-a"));
+  }
+
+  @Test
+  void releaseDiscardedOnRollback() {
+    imageIndex.register("hash-a", s3Dto("a"));
+
+    transactionTemplate.execute(status -> {
+      imageIndex.release("https://s3/a.png");
+      status.setRollbackOnly();
+      return null;
+    });
+
+    assertEquals(1, refCount("hash-a"));
+  }
+
+  @Test
+  void removeOrphansInBatches() {
+    // 보관 시간 -1시간 = 방금 release 된 이미지도 정리 대상
+    ImageIndex expiredIndex = new ImageIndex(imageObjectRepository, new SimpleMeterRegistry(), 10, -1);
+    for (int i = 0; i < 101; i++) {
+      expiredIndex.register("hash-" + i, s3Dto(String.valueOf(i)));
+      expiredIndex.release("https://s3/" + i + ".png");
+    }
+    expiredIndex.register("hash-used", s3Dto("used"));
+
+    assertEquals(100, expiredIndex.removeOrphans().size());
+    assertEquals(1, expiredIndex.removeOrphans().size());
+    assertTrue(expiredIndex.removeOrphans().isEmpty());
+    assertEquals(1, imageObjectRepository.count());
+  }
+
+  private int refCount(String contentHash) {
+    return imageObjectRepository.findByContentHash(contentHash).map(ImageObject::getRefCount).orElse(0);
+  }
+
+  private static S3Dto s3Dto(String name) {
+    return new S3Dto(name + ".png", "https://s3/" + name + ".png", "https://s3/w960/" + name + ".png", "https://s3/w320/" + name + ".png");
+  }
+}
@@ -0,0 +1,189 @@
+package sparta.seed.img.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sparta.seed.img.domain.ImageObject;
+import sparta.seed.img.repository.ImageObjectRepository;
+import sparta.seed.s3.S3Dto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageIndexTest {
+
+  private static final String HASH = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+  private ImageObjectRepository imageObjectRepository;
+  private ImageIndex imageIndex;
+
+  @BeforeEach
+  void setUp() {
+    imageObjectRepository = mock(ImageObjectRepository.class);
+    imageIndex = new ImageIndex(imageObjectRepository, new SimpleMeterRegistry(), 10, 24);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void hash() throws IOException {
+    assertEquals(HASH, imageIndex.hash(new ByteArrayResource("abc".getBytes(StandardCharsets.UTF_8))));
+  }
+
+  @Test
+  void hashLargerThanBuffer() throws IOException {
+    byte[] bytes = new byte[20000];
+    byte[] changed = new byte[20000];
+    changed[19999] = 1;
+    assertEquals(imageIndex.hash(new ByteArrayResource(bytes)), imageIndex.hash(new ByteArrayResource(bytes.clone())));
+    assertNotEquals(imageIndex.hash(new ByteArrayResource(bytes)), imageIndex.hash(new ByteArrayResource(changed)));
+  }
+
+  @Test
+  void acquireMiss() {
+    when(imageObjectRepository.increaseRefCount(HASH)).thenReturn(0);
+
+    assertNull(imageIndex.acquire(HASH));
+    verify(imageObjectRepository, never()).findByContentHash(anyString());
+  }
+
+  @Test
+  void acquireHitIsCached() {
+    ImageObject indexed = imageObject(1L);
+    when(imageObjectRepository.increaseRefCount(HASH)).thenReturn(1);
+    when(imageObjectRepository.findByContentHash(HASH)).thenReturn(Optional.of(indexed));
+
+    assertEquals("https://s3/a.png", imageIndex.acquire(HASH).getUploadImageUrl());
+    assertEquals("https://s3/a.png", imageIndex.acquire(HASH).getUploadImageUrl());
+    // refCount는 매번 올리고, 주소 조회는 메모리 캐시로 한번만
+    verify(imageObjectRepository, times(2)).increaseRefCount(HASH);
+    verify(imageObjectRepository, times(1)).findByContentHash(HASH);
+  }
+
+  @Test
+  void registerNew() {
+    S3Dto uploaded = new S3Dto("b.png", "https://s3/b.png", null, null);
+    when(imageObjectRepository.insertIfAbsent(eq(HASH), anyString(), anyString(), any(), any())).thenReturn(1);
+
+    assertSame(uploaded, imageIndex.register(HASH, uploaded));
+    verify(imageObjectRepository, never()).increaseRefCount(anyString());
+  }
+
+  @Test
+  void registerLosesInsertRace() {
+    S3Dto uploaded = new S3Dto("b.png", "https://s3/b.png", null, null);
+    when(imageObjectRepository.insertIfAbsent(eq(HASH), anyString(), anyString(), any(), any())).thenReturn(0);
+    when(imageObjectRepository.increaseRefCount(HASH)).thenReturn(1);
+    ImageObject indexed = imageObject(1L);
+    when(imageObjectRepository.findByContentHash(HASH)).thenReturn(Optional.of(indexed));
+
+    S3Dto registered = imageIndex.register(HASH, uploaded);
+
+    // 먼저 등록된 주소를 쓰고, 방금 올린 객체는 호출한 쪽에서 지운다
+    assertNotSame(uploaded, registered);
+    assertEquals("https://s3/a.png", registered.getUploadImageUrl());
+  }
+
+  @Test
+  void registerLosesRaceToRemovedOrphan() {
+    S3Dto uploaded = new S3Dto("b.png", "https://s3/b.png", null, null);
+    when(imageObjectRepository.insertIfAbsent(eq(HASH), anyString(), anyString(), any(), any())).thenReturn(0);
+    when(imageObjectRepository.increaseRefCount(HASH)).thenReturn(0);
+
+    assertSame(uploaded, imageIndex.register(HASH, uploaded));
+  }
+
+  @Test
+  void releaseOutsideTransaction() {
+    imageIndex.release("https://s3/a.png");
+    imageIndex.release(null);
+
+    verify(imageObjectRepository, times(1)).releaseByImgUrl(eq("https://s3/a.png"), any(LocalDateTime.class));
+  }
+
+  @Test
+  void releaseAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    imageIndex.release("https://s3/a.png");
+    verify(imageObjectRepository, never()).releaseByImgUrl(anyString(), any(LocalDateTime.class));
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    verify(imageObjectRepository, times(1)).releaseByImgUrl(eq("https://s3/a.png"), any(LocalDateTime.class));
+  }
+
+  @Test
+  void acquireRevertedOnRollback() {
+    when(imageObjectRepository.increaseRefCount(HASH)).thenReturn(1);
+    ImageObject indexed = imageObject(1L);
+    when(imageObjectRepository.findByContentHash(HASH)).thenReturn(Optional.of(indexed));
+    TransactionSynchronizationManager.initSynchronization();
+
+    imageIndex.acquire(HASH);
+    TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verify(imageObjectRepository, times(1)).releaseByContentHash(eq(HASH), any(LocalDateTime.class));
+  }
+
+  @Test
+  void acquireKeptOnCommit() {
+    when(imageObjectRepository.increaseRefCount(HASH)).thenReturn(1);
+    ImageObject indexed = imageObject(1L);
+    when(imageObjectRepository.findByContentHash(HASH)).thenReturn(Optional.of(indexed));
+    TransactionSynchronizationManager.initSynchronization();
+
+    imageIndex.acquire(HASH);
+    TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+    verify(imageObjectRepository, never()).releaseByContentHash(anyString(), any(LocalDateTime.class));
+  }
+
+  @Test
+  void removeOrphans() {
+    ImageObject reused = imageObject(1L);
+    ImageObject orphan = imageObject(2L);
+    when(imageObjectRepository.findTop100ByRefCountAndReleasedAtBefore(eq(0), any(LocalDateTime.class)))
+            .thenReturn(List.of(reused, orphan));
+    // 그 사이 다시 쓰인 이미지는 삭제되지 않는다
+    when(imageObjectRepository.deleteOrphan(1L)).thenReturn(0);
+    when(imageObjectRepository.deleteOrphan(2L)).thenReturn(1);
+
+    List<S3Dto> removed = imageIndex.removeOrphans();
+
+    assertEquals(1, removed.size());
+    verify(imageObjectRepository, times(2)).deleteOrphan(anyLong());
+  }
+
+  private static ImageObject imageObject(Long id) {
+    ImageObject imageObject = mock(ImageObject.class);
+    when(imageObject.getId()).thenReturn(id);
+    when(imageObject.getContentHash()).thenReturn(HASH);
+    when(imageObject.toS3Dto()).thenReturn(new S3Dto("a.png", "https://s3/a.png", null, null));
+    return imageObject;
+  }
+}
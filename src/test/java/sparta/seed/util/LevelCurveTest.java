@@ -0,0 +1,51 @@
+package sparta.seed.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelCurveTest {
+
+  private final LevelCurve levelCurve = new LevelCurve(null);
+
+  @Test
+  void apply() {
+    long result = levelCurve.apply(1, 0, 1);
+    assertEquals(2, LevelCurve.levelOf(result));
+    assertEquals(0, LevelCurve.expOf(result));
+
+    result = levelCurve.apply(4, 3, 1);
+    assertEquals(4, LevelCurve.levelOf(result));
+    assertEquals(4, LevelCurve.expOf(result));
+  }
+
+  @Test
+  void applyMultiLevel() {
+    // 1 -> 2 (1) -> 3 (1) -> 4 (2), 남은 경험치 0
+    long result = levelCurve.apply(1, 0, 4);
+    assertEquals(4, LevelCurve.levelOf(result));
+    assertEquals(0, LevelCurve.expOf(result));
+  }
+
+  @Test
+  void maxLevel() {
+    long result = levelCurve.apply(10, 11, 3);
+    assertEquals(11, LevelCurve.levelOf(result));
+    assertEquals(2, LevelCurve.expOf(result));
+    assertEquals(0, levelCurve.getNeedNextLevelExp(11));
+
+    result = levelCurve.apply(11, 2, 3);
+    assertEquals(11, LevelCurve.levelOf(result));
+    assertEquals(5, LevelCurve.expOf(result));
+  }
+
+  @Test
+  void applyAll() {
+    int[] levels = {1, 3};
+    int[] exps = {0, 1};
+    int[] gains = {1, 1};
+    levelCurve.applyAll(levels, exps, gains);
+    assertArrayEquals(new int[]{2, 4}, levels);
+    assertArrayEquals(new int[]{0, 0}, exps);
+  }
+}
@@ -0,0 +1,33 @@
+package sparta.seed.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlangMatcherTest {
+
+  @Test
+  void scan() {
+    SlangMatcher matcher = SlangMatcher.of(List.of("he", "she", "his", "hers"));
+
+    List<SlangMatcher.Match> matches = matcher.scan("ushers");
+
+    assertEquals(3, matches.size());
+    assertEquals("she", matches.get(0).getWord());
+    assertEquals(1, matches.get(0).getStart());
+    assertEquals(4, matches.get(0).getEnd());
+    assertEquals("hers", matches.get(2).getWord());
+  }
+
+  @Test
+  void contains() {
+    SlangMatcher matcher = SlangMatcher.of(List.of("비속어", ""));
+
+    assertTrue(matcher.contains("이건 비속어입니다"));
+    assertFalse(matcher.contains("이건 비속 어입니다"));
+    assertFalse(matcher.contains(null));
+    assertFalse(SlangMatcher.empty().contains("비속어"));
+  }
+}
@@ -0,0 +1,35 @@
+package sparta.seed.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlangNormalizerTest {
+
+  @Test
+  void composeJamoWithFinalConsonant() {
+    assertEquals("시발", SlangNormalizer.normalize("ㅅㅣㅂㅏㄹ"));
+    assertEquals("병신", SlangNormalizer.normalize("ㅂㅕㅇㅅㅣㄴ"));
+    assertEquals("시발", SlangNormalizer.normalize("시ㅂㅏㄹ"));
+  }
+
+  @Test
+  void joinSpacedLetters() {
+    assertEquals("시발", SlangNormalizer.normalize("시 발"));
+    assertEquals("시발", SlangNormalizer.normalize("ㅅ ㅣ ㅂ ㅏ ㄹ"));
+    assertEquals("시발", SlangNormalizer.normalize("시\u200B발"));
+  }
+
+  @Test
+  void keepWordBoundary() {
+    // 한 글자씩 띄어 쓴 경우가 아니면 공백을 남겨서 단어를 넘는 매칭이 생기지 않는다
+    assertEquals("우리 시 발전", SlangNormalizer.normalize("우리  시 발전"));
+    assertEquals("hello world", SlangNormalizer.normalize("  Hello \t World "));
+  }
+
+  @Test
+  void fullWidthAndCase() {
+    assertEquals("sibal", SlangNormalizer.normalize("ＳＩＢＡＬ"));
+    assertEquals("", SlangNormalizer.normalize(null));
+  }
+}